@@ -0,0 +1,110 @@
+import axiosInstance from './axiosInstance';
+
+const MAX_RETRY_DELAY_MS = 30000;
+
+/**
+ * Subscribe to order status changes pushed by the server (Server-Sent Events).
+ * Users receive their own orders, admins all orders. Uses fetch instead of
+ * EventSource so the JWT can be sent in the Authorization header; reconnects
+ * with backoff and resumes from the last received event id.
+ * @param {Object} handlers
+ * @param {Function} handlers.onEvent - Called with {type, orderId, status, previousStatus, ...}
+ * @param {Function} handlers.onResync - Called when missed events can't be replayed; reload the data
+ * @returns {Function} Unsubscribe function
+ */
+export const subscribeToOrderEvents = ({ onEvent, onResync }) => {
+  const controller = new AbortController();
+  let lastEventId = null;
+  let retryDelay = 1000;
+
+  const dispatch = (frame) => {
+    let id = null;
+    let name = 'message';
+    const data = [];
+    for (const line of frame.split('\n')) {
+      if (line.startsWith(':')) continue; // heartbeat comment
+      const separator = line.indexOf(':');
+      const field = separator === -1 ? line : line.slice(0, separator);
+      const value = separator === -1 ? '' : line.slice(separator + 1).replace(/^ /, '');
+      if (field === 'id') id = value;
+      else if (field === 'event') name = value;
+      else if (field === 'data') data.push(value);
+    }
+    if (id) lastEventId = id;
+    if (name === 'order-status' && data.length) {
+      onEvent?.(JSON.parse(data.join('\n')));
+    } else if (name === 'resync') {
+      onResync?.();
+    }
+  };
+
+  const connect = async () => {
+    const token = localStorage.getItem('token');
+    const headers = { Accept: 'text/event-stream' };
+    if (token) headers.Authorization = `Bearer ${token}`;
+    if (lastEventId) headers['Last-Event-ID'] = lastEventId;
+
+    const response = await fetch(`${axiosInstance.defaults.baseURL}/orders/stream`, {
+      headers,
+      signal: controller.signal,
+    });
+    if (response.status === 401 || response.status === 403) {
+      controller.abort();
+      return;
+    }
+    if (!response.ok || !response.body) {
+      throw new Error(`Order event stream failed with status ${response.status}`);
+    }
+
+    retryDelay = 1000;
+    const reader = response.body.getReader();
+    const decoder = new TextDecoder();
+    let buffer = '';
+    for (;;) {
+      const { value, done } = await reader.read();
+      if (done) break;
+      buffer += decoder.decode(value, { stream: true }).replace(/\r\n?/g, '\n');
+      let boundary;
+      while ((boundary = buffer.indexOf('\n\n')) !== -1) {
+        dispatch(buffer.slice(0, boundary));
+        buffer = buffer.slice(boundary + 2);
+      }
+    }
+  };
+
+  const run = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        await connect();
+      } catch (error) {
+        if (controller.signal.aborted) return;
+      }
+      if (controller.signal.aborted) return;
+      // Stream ended (server timeout or error): reconnect and resume
+      await new Promise((resolve) => setTimeout(resolve, retryDelay));
+      retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MS);
+    }
+  };
+
+  run();
+  return () => controller.abort();
+};
+
+/**
+ * Build an order list row from a CREATED event, which carries everything the
+ * order lists show, so a new order can be added without fetching it.
+ * @param {Object} event - CREATED order event
+ * @returns {Object} Order summary with the fields of an order response the lists use
+ */
+export const orderFromCreatedEvent = (event) => ({
+  id: event.orderId,
+  orderNumber: event.orderNumber,
+  userId: event.userId,
+  userName: event.userName,
+  userEmail: event.userEmail,
+  status: event.status,
+  totalAmount: event.totalAmount,
+  itemCount: event.itemCount,
+  createdAt: event.occurredAt,
+  updatedAt: event.occurredAt,
+});
@@ -1,6 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { getAllOrders, updateOrderStatus } from '../api/order.api';
+import { orderFromCreatedEvent, subscribeToOrderEvents } from '../api/orderEvents.api';
 import Loader from '../components/Loader';
 import ErrorBanner from '../components/ErrorBanner';
 import Badge from '../components/Badge';
@@ -19,6 +20,25 @@ const AdminOrders = () => {
         fetchOrders();
     }, []);
 
+    // Live status updates for all orders instead of reloading the full list
+    useEffect(() => {
+        return subscribeToOrderEvents({
+            onEvent: (event) => {
+                if (event.type === 'CREATED') {
+                    // The event carries the list fields, no need to fetch the order
+                    setOrders(prev => prev.some(order => order.id === event.orderId)
+                        ? prev
+                        : [...prev, orderFromCreatedEvent(event)]);
+                    return;
+                }
+                setOrders(prev => prev.map(order => order.id === event.orderId
+                    ? { ...order, status: event.status, updatedAt: event.occurredAt }
+                    : order));
+            },
+            onResync: () => fetchOrders(),
+        });
+    }, []);
+
     const fetchOrders = async () => {
         try {
             setLoading(true);
@@ -35,8 +55,8 @@ const AdminOrders = () => {
     const handleStatusUpdate = async (orderId, newStatus) => {
         try {
             setUpdatingId(orderId);
-            await updateOrderStatus(orderId, newStatus);
-            await fetchOrders();
+            const updated = await updateOrderStatus(orderId, newStatus);
+            setOrders(prev => prev.map(order => order.id === updated.id ? updated : order));
             setError('');
         } catch (err) {
             setError(err.message || 'Failed to update order status');
@@ -93,7 +113,7 @@ const AdminOrders = () => {
                                             </div>
                                         </td>
                                         <td className="text-sm">{formatDate(order.createdAt)}</td>
-                                        <td>{order.items.length}</td>
+                                        <td>{order.items ? order.items.length : order.itemCount}</td>
                                         <td className="font-semibold">{formatCurrency(order.totalAmount)}</td>
                                         <td>
                                             <Badge variant={order.status}>{order.status}</Badge>
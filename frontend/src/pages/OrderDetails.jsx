@@ -1,6 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import { useParams, useNavigate } from 'react-router-dom';
 import { getOrderById, cancelOrder } from '../api/order.api';
+import { subscribeToOrderEvents } from '../api/orderEvents.api';
 import Loader from '../components/Loader';
 import ErrorBanner from '../components/ErrorBanner';
 import Button from '../components/Button';
@@ -21,6 +22,17 @@ const OrderDetails = () => {
         fetchOrder();
     }, [id]);
 
+    // Live status updates for this order
+    useEffect(() => {
+        return subscribeToOrderEvents({
+            onEvent: (event) => {
+                if (String(event.orderId) !== String(id)) return;
+                setOrder(prev => prev && { ...prev, status: event.status, updatedAt: event.occurredAt });
+            },
+            onResync: () => fetchOrder(),
+        });
+    }, [id]);
+
     const fetchOrder = async () => {
         try {
             setLoading(true);
@@ -39,7 +51,7 @@ const OrderDetails = () => {
             setCancelling(true);
             await cancelOrder(id);
             setCancelModal(false);
-            fetchOrder();
+            setOrder(prev => ({ ...prev, status: 'CANCELLED' }));
         } catch (err) {
             setError(err.message || 'Failed to cancel order');
         } finally {
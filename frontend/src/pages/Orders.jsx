@@ -2,6 +2,7 @@ import React, { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { useAuth } from '../auth/AuthContext';
 import { getOrdersByUserId } from '../api/order.api';
+import { orderFromCreatedEvent, subscribeToOrderEvents } from '../api/orderEvents.api';
 import Loader from '../components/Loader';
 import ErrorBanner from '../components/ErrorBanner';
 import Badge from '../components/Badge';
@@ -18,6 +19,25 @@ const Orders = () => {
         fetchOrders();
     }, []);
 
+    // Live status updates instead of refetching the order history
+    useEffect(() => {
+        return subscribeToOrderEvents({
+            onEvent: (event) => {
+                if (event.type === 'CREATED') {
+                    // The event carries the list fields, no need to fetch the order
+                    setOrders(prev => prev.some(order => order.id === event.orderId)
+                        ? prev
+                        : [...prev, orderFromCreatedEvent(event)]);
+                    return;
+                }
+                setOrders(prev => prev.map(order => order.id === event.orderId
+                    ? { ...order, status: event.status, updatedAt: event.occurredAt }
+                    : order));
+            },
+            onResync: () => fetchOrders(),
+        });
+    }, []);
+
     const fetchOrders = async () => {
         try {
             setLoading(true);
@@ -67,7 +87,7 @@ const Orders = () => {
                                         Placed on {formatDate(order.createdAt)}
                                     </p>
                                     <p className="text-sm text-muted">
-                                        {order.items.length} item(s)
+                                        {order.items ? order.items.length : order.itemCount} item(s)
                                     </p>
                                 </div>
                                 <div className="text-left sm:text-right">
@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+#
+# Measures time-to-first-request of the backend, before and after the
+# startup optimizations (Spring AOT + AppCDS archive from a training run).
+#
+# Needs PostgreSQL and Redis reachable with the usual DB_*/REDIS_*/JWT_SECRET
+# environment (or .env), exactly as for a normal run.
+#
+#   ./scripts/measure-startup.sh [runs]
+#
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${SERVER_PORT:-8082}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+WORK="$ROOT/target/startup"
+JAR_NAME="order-management-system-0.0.1-SNAPSHOT.jar"
+
+cd "$ROOT"
+
+build() {
+  local dir="$1"; shift
+  ./mvnw -q -DskipTests "$@" package
+  rm -rf "$dir"
+  java -Djarmode=tools -jar "target/$JAR_NAME" extract --destination "$dir"
+}
+
+# Milliseconds from process start until /actuator/health/readiness answers UP
+time_to_first_request() {
+  local start end pid
+  start=$(date +%s%N)
+  java "$@" >"$WORK/app.log" 2>&1 &
+  pid=$!
+  until curl -sf "http://localhost:$PORT/actuator/health/readiness" >/dev/null 2>&1; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "application exited, see $WORK/app.log" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  end=$(date +%s%N)
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo $(( (end - start) / 1000000 ))
+}
+
+measure() {
+  local label="$1"; shift
+  local total=0 ms
+  for _ in $(seq "$RUNS"); do
+    ms=$(time_to_first_request "$@")
+    total=$((total + ms))
+  done
+  printf '%-28s %6d ms (mean of %d runs)\n' "$label" $((total / RUNS)) "$RUNS"
+}
+
+mkdir -p "$WORK"
+
+echo "Building baseline jar..."
+build "$WORK/plain"
+
+echo "Building AOT jar and training the CDS archive..."
+build "$WORK/aot" -Paot
+java -XX:ArchiveClassesAtExit="$WORK/aot/app.jsa" -Dspring.context.exit=onRefresh \
+  -Dspring.aot.enabled=true -Dspring.profiles.active=prod -jar "$WORK/aot/$JAR_NAME" >"$WORK/training.log" 2>&1
+
+echo
+echo "Time to first request:"
+measure "before (plain jar)" -Dmanagement.endpoint.health.probes.enabled=true -jar "$WORK/plain/$JAR_NAME"
+measure "after (prod + AOT + CDS)" -XX:SharedArchiveFile="$WORK/aot/app.jsa" \
+  -Dspring.aot.enabled=true -Dspring.profiles.active=prod -jar "$WORK/aot/$JAR_NAME"
@@ -0,0 +1,65 @@
+package com.project.order_management_system;
+
+import com.project.order_management_system.entity.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Deterministic entities shared by the benchmarks, so runs are comparable.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user() {
+        return User.builder()
+                .id(42L)
+                .name("Benchmark User")
+                .email("bench@example.com")
+                .password("{noop}password")
+                .phone("9876543210")
+                .role(Role.USER)
+                .build();
+    }
+
+    public static Product product(long id) {
+        return Product.builder()
+                .id(id)
+                .name("Product " + id)
+                .description("Benchmark product " + id)
+                .price(new BigDecimal("19.99").add(BigDecimal.valueOf(id % 100)))
+                .stock(1000)
+                .active(true)
+                .category("Category " + (id % 8))
+                .build();
+    }
+
+    public static Order order(int itemCount) {
+        Order order = Order.builder()
+                .id(1L)
+                .orderNumber("ORD-1700000000000-ABCDEF12")
+                .user(user())
+                .status(OrderStatus.PENDING)
+                .shippingAddress("221B Baker Street, London")
+                .totalAmount(Money.ZERO)
+                .createdAt(LocalDateTime.of(2025, 1, 31, 12, 0))
+                .updatedAt(LocalDateTime.of(2025, 1, 31, 12, 0))
+                .build();
+
+        for (int i = 0; i < itemCount; i++) {
+            Product product = product(i + 1);
+            OrderItem item = OrderItem.builder()
+                    .id((long) i + 1)
+                    .product(product)
+                    .quantity(1 + i % 5)
+                    .price(Money.of(product.getPrice()))
+                    .build();
+            item.calculateSubtotal();
+            order.addItem(item);
+        }
+        order.calculateTotal();
+        return order;
+    }
+}
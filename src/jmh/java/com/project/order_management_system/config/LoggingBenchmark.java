@@ -0,0 +1,158 @@
+package com.project.order_management_system.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging cost of one order-creation request under the default configuration
+ * (application.properties: DEBUG, SQL and bind-parameter logging, show-sql,
+ * synchronous console) and under the prod profile (logback-spring.xml: INFO,
+ * sampled requests, async JSON). Output goes to a null stream, so the numbers
+ * cover formatting, encoding and appender contention, not the terminal or disk.
+ * Run with {@code -prof gc} to compare allocation per request.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g", "-XX:+UseG1GC" })
+public class LoggingBenchmark {
+
+    // Statements and bind parameters of a small createOrder: user, products, order, items, reservation, outbox
+    private static final int STATEMENTS = 6;
+    private static final int BINDS_PER_STATEMENT = 4;
+    private static final String FORMATTED_SQL =
+            "\n    insert \n    into\n        order_items\n        (order_id, price, product_id, quantity, subtotal) \n" +
+            "    values\n        (?, ?, ?, ?, ?)";
+
+    @Param({ "current", "prod" })
+    private String profile;
+
+    private LoggerContext context;
+    private Logger controllerLog;
+    private Logger serviceLog;
+    private Logger sqlLog;
+    private Logger binderLog;
+    private PrintStream showSql;
+    private RequestLoggingFilter requestFilter;
+
+    @Setup
+    public void setUp() {
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        context.putObject(Environment.class.getName(), new StandardEnvironment());
+
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+        output.setContext(context);
+        output.setOutputStream(OutputStream.nullOutputStream());
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+
+        if ("prod".equals(profile)) {
+            output.setEncoder(start(jsonEncoder()));
+            output.start();
+
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1638);
+            async.setNeverBlock(true);
+            async.addAppender(output);
+            async.start();
+            root.addAppender(async);
+
+            SampledLogTurboFilter turboFilter = new SampledLogTurboFilter();
+            turboFilter.setContext(context);
+            turboFilter.start();
+            context.addTurboFilter(turboFilter);
+
+            context.getLogger("com.project.order_management_system").setLevel(Level.INFO);
+            context.getLogger("org.hibernate.SQL").setLevel(Level.WARN);
+            context.getLogger("org.hibernate.type.descriptor.sql.BasicBinder").setLevel(Level.WARN);
+            requestFilter = new RequestLoggingFilter(0.05);
+        } else {
+            output.setEncoder(start(patternEncoder()));
+            output.start();
+            root.addAppender(output);
+
+            context.getLogger("com.project.order_management_system").setLevel(Level.DEBUG);
+            context.getLogger("org.hibernate.SQL").setLevel(Level.DEBUG);
+            context.getLogger("org.hibernate.type.descriptor.sql.BasicBinder").setLevel(Level.TRACE);
+            showSql = new PrintStream(OutputStream.nullOutputStream());
+            requestFilter = new RequestLoggingFilter(1.0);
+        }
+
+        controllerLog = context.getLogger("com.project.order_management_system.controller.OrderController");
+        serviceLog = context.getLogger("com.project.order_management_system.service.OrderService");
+        sqlLog = context.getLogger("org.hibernate.SQL");
+        binderLog = context.getLogger("org.hibernate.type.descriptor.sql.BasicBinder");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void createOrderRequest() {
+        MDC.put(RequestLoggingFilter.REQUEST_ID, "3f2b8c1e-5d4a-4e7f-9a6b-1c2d3e4f5a6b");
+        MDC.put(RequestLoggingFilter.SAMPLED, String.valueOf(requestFilter.isSampled()));
+        try {
+            controllerLog.info("Received create order request for user: {}", 42L);
+            serviceLog.info("Creating order for user ID: {}", 42L);
+            for (int statement = 0; statement < STATEMENTS; statement++) {
+                sqlLog.debug(FORMATTED_SQL);
+                if (showSql != null) {
+                    showSql.println("Hibernate: " + FORMATTED_SQL);
+                }
+                for (int bind = 1; bind <= BINDS_PER_STATEMENT; bind++) {
+                    binderLog.trace("binding parameter ({}:{}) <- [{}]", bind, "BIGINT", statement * 10L + bind);
+                }
+            }
+            serviceLog.info("Order created successfully with order number: {}", "ORD-1700000000000-ABCDEF12");
+        } finally {
+            MDC.remove(RequestLoggingFilter.REQUEST_ID);
+            MDC.remove(RequestLoggingFilter.SAMPLED);
+        }
+    }
+
+    private Encoder<ILoggingEvent> jsonEncoder() {
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setFormat("ecs");
+        encoder.setCharset(StandardCharsets.UTF_8);
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> patternEncoder() {
+        // Spring Boot's default console pattern, without colours
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n");
+        encoder.setCharset(StandardCharsets.UTF_8);
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> start(Encoder<ILoggingEvent> encoder) {
+        encoder.setContext(context);
+        encoder.start();
+        return encoder;
+    }
+}
@@ -0,0 +1,109 @@
+package com.project.order_management_system.config;
+
+import com.project.order_management_system.BenchmarkFixtures;
+import com.project.order_management_system.dto.OrderResponse;
+import com.project.order_management_system.entity.Order;
+import com.project.order_management_system.entity.OrderItem;
+import com.project.order_management_system.entity.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache value (de)serialization with the ObjectMapper used by RedisConfig.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g", "-XX:+UseG1GC" })
+public class RedisSerializationBenchmark {
+
+    @Param({ "10", "100" })
+    private int size;
+
+    private GenericJackson2JsonRedisSerializer serializer;
+    private CompressingRedisSerializer compressingSerializer;
+    private OrderResponse order;
+    private List<Product> products;
+    private byte[] orderBytes;
+    private byte[] productBytes;
+    private byte[] compressedProductBytes;
+
+    @Setup
+    public void setUp() {
+        serializer = new GenericJackson2JsonRedisSerializer(RedisConfig.createObjectMapper());
+        // Threshold 0 compresses every value, to measure the codec cost on its own
+        compressingSerializer = new CompressingRedisSerializer(serializer, 0, "benchmark", new SimpleMeterRegistry());
+
+        Order entity = BenchmarkFixtures.order(size);
+        List<OrderResponse.OrderItemResponse> items = new ArrayList<>();
+        for (OrderItem item : entity.getItems()) {
+            items.add(OrderResponse.OrderItemResponse.builder()
+                    .id(item.getId())
+                    .productId(item.getProduct().getId())
+                    .productName(item.getProduct().getName())
+                    .quantity(item.getQuantity())
+                    .price(item.getPrice().toBigDecimal())
+                    .subtotal(item.getSubtotal().toBigDecimal())
+                    .build());
+        }
+        order = OrderResponse.builder()
+                .id(entity.getId())
+                .orderNumber(entity.getOrderNumber())
+                .userId(entity.getUser().getId())
+                .userName(entity.getUser().getName())
+                .userEmail(entity.getUser().getEmail())
+                .items(items)
+                .totalAmount(entity.getTotalAmount().toBigDecimal())
+                .status(entity.getStatus())
+                .shippingAddress(entity.getShippingAddress())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+
+        products = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            products.add(BenchmarkFixtures.product(i + 1));
+        }
+
+        orderBytes = serializer.serialize(order);
+        productBytes = serializer.serialize(products);
+        compressedProductBytes = compressingSerializer.serialize(products);
+    }
+
+    @Benchmark
+    public byte[] serializeOrder() {
+        return serializer.serialize(order);
+    }
+
+    @Benchmark
+    public Object deserializeOrder() {
+        return serializer.deserialize(orderBytes);
+    }
+
+    @Benchmark
+    public byte[] serializeProductList() {
+        return serializer.serialize(products);
+    }
+
+    @Benchmark
+    public Object deserializeProductList() {
+        return serializer.deserialize(productBytes);
+    }
+
+    @Benchmark
+    public byte[] serializeCompressedProductList() {
+        return compressingSerializer.serialize(products);
+    }
+
+    @Benchmark
+    public Object deserializeCompressedProductList() {
+        return compressingSerializer.deserialize(compressedProductBytes);
+    }
+}
@@ -0,0 +1,64 @@
+package com.project.order_management_system.entity;
+
+import com.project.order_management_system.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Money math run on every persist/update of an order. The bigDecimal*
+ * benchmarks keep the previous BigDecimal implementation as a baseline; run
+ * with {@code -prof gc} to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g", "-XX:+UseG1GC" })
+public class OrderTotalsBenchmark {
+
+    @Param({ "1", "10", "100", "1000" })
+    private int itemCount;
+
+    private Order order;
+    private OrderItem item;
+    private List<BigDecimal> subtotals;
+    private BigDecimal price;
+
+    @Setup
+    public void setUp() {
+        order = BenchmarkFixtures.order(itemCount);
+        item = order.getItems().get(0);
+        subtotals = order.getItems().stream()
+                .map(orderItem -> orderItem.getSubtotal().toBigDecimal())
+                .toList();
+        price = item.getPrice().toBigDecimal();
+    }
+
+    @Benchmark
+    public Money calculateTotal() {
+        order.calculateTotal();
+        return order.getTotalAmount();
+    }
+
+    @Benchmark
+    public Money calculateSubtotal() {
+        item.calculateSubtotal();
+        return item.getSubtotal();
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        return subtotals.stream()
+                .filter(subtotal -> subtotal != null)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalSubtotal() {
+        return price.multiply(BigDecimal.valueOf(item.getQuantity()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.order_management_system.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token signing on login/register and parsing on every authenticated request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g", "-XX:+UseG1GC" })
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "secret", "benchmark-secret-key-that-is-at-least-256-bits-long");
+        ReflectionTestUtils.setField(tokenProvider, "expiration", 86_400_000L);
+        tokenProvider.init();
+
+        userDetails = User.withUsername("bench@example.com")
+                .password("{noop}password")
+                .authorities("ROLE_USER")
+                .build();
+        token = tokenProvider.generateToken(userDetails, "USER");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(userDetails, "USER");
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return tokenProvider.extractUsername(token);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return tokenProvider.validateToken(token, userDetails);
+    }
+}
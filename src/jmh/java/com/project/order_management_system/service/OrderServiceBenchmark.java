@@ -0,0 +1,40 @@
+package com.project.order_management_system.service;
+
+import com.project.order_management_system.BenchmarkFixtures;
+import com.project.order_management_system.dto.OrderResponse;
+import com.project.order_management_system.entity.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping done for every order read and order number generation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g", "-XX:+UseG1GC" })
+public class OrderServiceBenchmark {
+
+    @Param({ "1", "10", "100" })
+    private int itemCount;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = BenchmarkFixtures.order(itemCount);
+    }
+
+    @Benchmark
+    public OrderResponse mapToOrderResponse() {
+        return OrderService.mapToOrderResponse(order);
+    }
+
+    @Benchmark
+    public String generateOrderNumber() {
+        return OrderService.generateOrderNumber();
+    }
+}
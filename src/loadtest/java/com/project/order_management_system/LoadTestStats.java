@@ -0,0 +1,103 @@
+package com.project.order_management_system;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects raw latencies per operation; percentiles are exact, computed once at the end.
+ */
+class LoadTestStats {
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    void record(String operation, long nanos, boolean ok) {
+        samples.computeIfAbsent(operation, op -> new Samples()).add(nanos, ok);
+    }
+
+    Summary summarize(String operation, double seconds) {
+        if (operation == null) {
+            Samples all = new Samples();
+            samples.values().forEach(all::addAll);
+            return all.summarize(seconds);
+        }
+        return samples.getOrDefault(operation, new Samples()).summarize(seconds);
+    }
+
+    String report(double seconds) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n%-16s %9s %7s %10s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms"));
+        Map<String, Samples> sorted = new TreeMap<>(samples);
+        sorted.keySet().forEach(op -> sb.append(summarize(op, seconds).format(op)));
+        sb.append(summarize(null, seconds).format("TOTAL"));
+        return sb.toString();
+    }
+
+    Properties toProperties(double seconds) {
+        Summary total = summarize(null, seconds);
+        Properties properties = new Properties();
+        properties.setProperty("throughput", String.valueOf(total.throughput()));
+        properties.setProperty("p50.ms", String.valueOf(total.p50()));
+        properties.setProperty("p99.ms", String.valueOf(total.p99()));
+        properties.setProperty("p999.ms", String.valueOf(total.p999()));
+        properties.setProperty("error.rate", String.valueOf(total.errorRate()));
+        return properties;
+    }
+
+    record Summary(long requests, long errors, double throughput, double p50, double p95, double p99, double p999) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+        String format(String name) {
+            return String.format("%-16s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    name, requests, errors, throughput, p50, p95, p99, p999);
+        }
+    }
+
+    private static final class Samples {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long nanos, boolean ok) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized void addAll(Samples other) {
+            synchronized (other) {
+                for (int i = 0; i < other.size; i++) {
+                    add(other.latencies[i], true);
+                }
+                errors += other.errors;
+            }
+        }
+
+        synchronized Summary summarize(double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new Summary(size, errors, size / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95),
+                    percentile(sorted, 0.99), percentile(sorted, 0.999));
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+}
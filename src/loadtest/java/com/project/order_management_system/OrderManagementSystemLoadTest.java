@@ -0,0 +1,348 @@
+package com.project.order_management_system;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fppt.jedismock.RedisServer;
+import com.project.order_management_system.entity.Product;
+import com.project.order_management_system.entity.Role;
+import com.project.order_management_system.entity.User;
+import com.project.order_management_system.repository.ProductRepository;
+import com.project.order_management_system.repository.UserRepository;
+import com.project.order_management_system.security.JwtTokenProvider;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the whole application against embedded PostgreSQL and an in-process
+ * Redis stand-in and drives mixed traffic from concurrent virtual users.
+ * Fails when the error rate, or throughput/p99 compared to the baseline file,
+ * regress beyond the configured tolerance.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        // Virtual users place orders far faster than the per-client limits allow
+        "app.rate-limit.enabled=false",
+        "logging.level.com.project.order_management_system=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class OrderManagementSystemLoadTest {
+
+    private static final String PASSWORD = "LoadTest@123";
+    private static final int USERS = Integer.getInteger("loadtest.users", 200);
+    private static final int PRODUCTS = Integer.getInteger("loadtest.products", 500);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 30);
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.15"));
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+    private static final String[] CATEGORIES = { "Electronics", "Fashion", "Home", "Books", "Sports", "Beauty", "Toys", "Grocery" };
+
+    private static final EmbeddedPostgres POSTGRES;
+    private static final RedisServer REDIS;
+
+    static {
+        try {
+            POSTGRES = EmbeddedPostgres.start();
+            REDIS = RedisServer.newRedisServer();
+            REDIS.start();
+        } catch (IOException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", REDIS::getBindPort);
+        registry.add("spring.data.redis.password", () -> "");
+        registry.add("jwt.secret", () -> "load-test-secret-key-that-is-at-least-256-bits-long");
+    }
+
+    @AfterAll
+    static void stopInfrastructure() throws IOException {
+        REDIS.stop();
+        POSTGRES.close();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<User> users = new ArrayList<>();
+    private final List<String> tokens = new ArrayList<>();
+    private final List<Long> productIds = new ArrayList<>();
+    private String adminToken;
+
+    @Test
+    void mixedTrafficStaysWithinBaseline() throws Exception {
+        seed();
+
+        run(new LoadTestStats(), WARMUP_SECONDS);
+        LoadTestStats stats = new LoadTestStats();
+        run(stats, DURATION_SECONDS);
+
+        System.out.printf("%nLoad test: %d virtual users for %ds%s", CONCURRENCY, DURATION_SECONDS,
+                stats.report(DURATION_SECONDS));
+
+        Properties result = stats.toProperties(DURATION_SECONDS);
+        writeResult(result);
+
+        assertThat(Double.parseDouble(result.getProperty("error.rate")))
+                .as("error rate")
+                .isLessThanOrEqualTo(MAX_ERROR_RATE);
+
+        Properties baseline = readBaseline();
+        if (baseline != null) {
+            double throughput = Double.parseDouble(result.getProperty("throughput"));
+            double p99 = Double.parseDouble(result.getProperty("p99.ms"));
+            assertThat(throughput)
+                    .as("throughput (req/s) vs baseline")
+                    .isGreaterThanOrEqualTo(Double.parseDouble(baseline.getProperty("throughput")) * (1 - TOLERANCE));
+            assertThat(p99)
+                    .as("p99 latency (ms) vs baseline")
+                    .isLessThanOrEqualTo(Double.parseDouble(baseline.getProperty("p99.ms")) * (1 + TOLERANCE));
+        }
+    }
+
+    private void seed() {
+        String encoded = passwordEncoder.encode(PASSWORD);
+
+        List<User> newUsers = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            newUsers.add(User.builder()
+                    .name("Load User " + i)
+                    .email("load" + i + "@example.com")
+                    .password(encoded)
+                    .phone("9000000000")
+                    .address("Load test street " + i)
+                    .role(Role.USER)
+                    .build());
+        }
+        users.addAll(userRepository.saveAll(newUsers));
+        for (User user : users) {
+            tokens.add(token(user));
+        }
+
+        User admin = userRepository.save(User.builder()
+                .name("Load Admin")
+                .email("load-admin@example.com")
+                .password(encoded)
+                .phone("9000000001")
+                .role(Role.ADMIN)
+                .build());
+        adminToken = token(admin);
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(Product.builder()
+                    .name("Load Product " + i)
+                    .description("Load test product " + i)
+                    .price(BigDecimal.valueOf(500 + i * 37L % 20_000, 2))
+                    .stock(10_000_000)
+                    .active(true)
+                    .category(CATEGORIES[i % CATEGORIES.length])
+                    .build());
+        }
+        productRepository.saveAll(products).forEach(p -> productIds.add(p.getId()));
+    }
+
+    private String token(User user) {
+        return tokenProvider.generateToken(
+                org.springframework.security.core.userdetails.User.withUsername(user.getEmail())
+                        .password(user.getPassword())
+                        .authorities("ROLE_" + user.getRole().name())
+                        .build(),
+                user.getRole().name());
+    }
+
+    private void run(LoadTestStats stats, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService pool = Executors.newFixedThreadPool(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            int virtualUser = i;
+            pool.submit(() -> virtualUser(virtualUser, stats, deadline));
+        }
+        pool.shutdown();
+        pool.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * One virtual user: 45% catalog browsing, 10% login, 25% create order,
+     * 10% cancel own order, 10% admin order listing.
+     */
+    private void virtualUser(int index, LoadTestStats stats, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int userIndex = index % users.size();
+        User user = users.get(userIndex);
+        String token = tokens.get(userIndex);
+        Deque<Long> ownOrders = new ArrayDeque<>();
+
+        while (System.nanoTime() < deadline) {
+            int roll = random.nextInt(100);
+            if (roll < 15) {
+                call(stats, "catalog.all", get("/api/v1/products", null), null);
+            } else if (roll < 30) {
+                call(stats, "catalog.product", get("/api/v1/products/" + hotProduct(random), null), null);
+            } else if (roll < 45) {
+                String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+                call(stats, "catalog.category", get("/api/v1/products/category/" + category, null), null);
+            } else if (roll < 55) {
+                String body = "{\"email\":\"" + user.getEmail() + "\",\"password\":\"" + PASSWORD + "\"}";
+                call(stats, "auth.login", post("/api/v1/auth/login", body, null), null);
+            } else if (roll < 80) {
+                JsonNode order = call(stats, "order.create", post("/api/v1/orders", orderBody(user, random), token), 201);
+                if (order != null) {
+                    ownOrders.push(order.get("id").asLong());
+                }
+            } else if (roll < 90) {
+                Long orderId = ownOrders.poll();
+                if (orderId != null) {
+                    call(stats, "order.cancel", delete("/api/v1/orders/" + orderId, token), null);
+                }
+            } else {
+                call(stats, "admin.orders", get("/api/v1/orders", adminToken), null);
+            }
+        }
+    }
+
+    // Skewed towards low ids so a few products are hot, as during a sale
+    private long hotProduct(ThreadLocalRandom random) {
+        double r = random.nextDouble();
+        return productIds.get((int) (r * r * r * productIds.size()));
+    }
+
+    private String orderBody(User user, ThreadLocalRandom random) {
+        StringBuilder items = new StringBuilder();
+        int lines = 1 + random.nextInt(4);
+        for (int i = 0; i < lines; i++) {
+            if (i > 0) {
+                items.append(',');
+            }
+            items.append("{\"productId\":").append(hotProduct(random))
+                    .append(",\"quantity\":").append(1 + random.nextInt(3)).append('}');
+        }
+        return "{\"userId\":" + user.getId() + ",\"items\":[" + items + "]," +
+                "\"shippingAddress\":\"Load test shipping address\"}";
+    }
+
+    private JsonNode call(LoadTestStats stats, String operation, HttpRequest request, Integer expectedStatus) {
+        long start = System.nanoTime();
+        boolean ok = false;
+        JsonNode body = null;
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            ok = expectedStatus != null ? response.statusCode() == expectedStatus : response.statusCode() < 400;
+            if (ok && expectedStatus != null) {
+                body = objectMapper.readTree(response.body());
+            }
+        } catch (IOException e) {
+            ok = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        stats.record(operation, System.nanoTime() - start, ok);
+        return body;
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String json, String token) {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest delete(String path, String token) {
+        return request(path, token).DELETE().build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Properties readBaseline() throws IOException {
+        String location = System.getProperty("loadtest.baseline");
+        if (location == null || !Files.exists(Path.of(location))) {
+            System.out.println("No load test baseline found, only the error rate is checked");
+            return null;
+        }
+        Properties baseline = new Properties();
+        try (InputStream in = Files.newInputStream(Path.of(location))) {
+            baseline.load(in);
+        }
+        return baseline;
+    }
+
+    private void writeResult(Properties result) throws IOException {
+        String location = System.getProperty("loadtest.result");
+        if (location == null) {
+            return;
+        }
+        Path path = Path.of(location);
+        Files.createDirectories(path.getParent());
+        try (OutputStream out = Files.newOutputStream(path)) {
+            result.store(out, "Load test result: " + CONCURRENCY + " virtual users, " + DURATION_SECONDS + "s");
+        }
+    }
+}
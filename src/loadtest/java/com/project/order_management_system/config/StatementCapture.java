@@ -0,0 +1,60 @@
+package com.project.order_management_system.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Statements executed by the current thread while the capture is open, for
+ * tests that assert an access path runs each statement once (no N+1):
+ * <pre>
+ * try (StatementCapture capture = StatementCapture.start()) {
+ *     orderRepository.findWithItemsByUserId(userId).forEach(...);
+ *     assertThat(capture.repeated()).isEmpty();
+ * }
+ * </pre>
+ * Works inside and outside requests; statements are seen through the
+ * DataSource wrapped by {@link JdbcInspectionConfig}, and all of them count,
+ * not only the queries that {@link StatementMonitor} checks for repetition.
+ */
+public final class StatementCapture implements AutoCloseable {
+
+    private final Map<String, Integer> counts = new LinkedHashMap<>();
+
+    private StatementCapture() {
+    }
+
+    public static StatementCapture start() {
+        StatementCapture capture = new StatementCapture();
+        StatementMonitor.observe(capture::record);
+        return capture;
+    }
+
+    private void record(String sql) {
+        counts.merge(sql, 1, Integer::sum);
+    }
+
+    /**
+     * Number of statements executed so far.
+     */
+    public int count() {
+        return counts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * SQL executed more than once, with the number of executions.
+     */
+    public Map<String, Integer> repeated() {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        counts.forEach((sql, count) -> {
+            if (count > 1) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+
+    @Override
+    public void close() {
+        StatementMonitor.observe(null);
+    }
+}
@@ -0,0 +1,211 @@
+package com.project.order_management_system.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query-plan regression test: applies the Flyway migrations to embedded
+ * PostgreSQL, seeds enough rows for the planner to prefer indexes, and checks
+ * that the SQL behind every repository finder is planned on the expected
+ * index instead of a sequential scan. A finder added without a matching index,
+ * or a dropped index, fails here.
+ * <p>
+ * orders is partitioned, so plans name partitions and their indexes; they
+ * are mapped back to the parent table and the index declared on it.
+ * <p>
+ * The statements mirror what Hibernate generates for the finders. Seeded
+ * predicates are selective (a user's orders, PENDING orders, one day, one
+ * category, the few active products) so an index is the right plan.
+ */
+class QueryPlanTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final EmbeddedPostgres POSTGRES;
+
+    static {
+        try {
+            POSTGRES = EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        DataSource dataSource = POSTGRES.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users (name, email, password, phone, role, created_at) " +
+                    "SELECT 'User ' || g, 'user-' || g || '@example.com', 'x', '9000000000', 'USER', now() " +
+                    "FROM generate_series(1, 20000) g");
+            // 200 categories of 250 products; 1% of the catalog is active
+            statement.execute("INSERT INTO products (name, price, stock, active, category) " +
+                    "SELECT 'Product ' || g, 9.99, g % 50, g % 100 = 0, 'Category ' || (g % 200) " +
+                    "FROM generate_series(1, 50000) g");
+            // 25 orders per user, one every minute, 0.5% PENDING
+            statement.execute("INSERT INTO orders (order_number, user_id, total_amount, status, created_at) " +
+                    "SELECT 'ORD-' || g, g % 20000 + 1, 19.98, " +
+                    "CASE g % 200 WHEN 0 THEN 'PENDING' WHEN 1 THEN 'CONFIRMED' WHEN 2 THEN 'SHIPPED' " +
+                    "WHEN 3 THEN 'CANCELLED' ELSE 'DELIVERED' END, " +
+                    "timestamp '2024-01-01' + g * interval '1 minute' " +
+                    "FROM generate_series(1, 500000) g");
+            statement.execute("INSERT INTO order_items (order_id, product_id, quantity, price, subtotal) " +
+                    "SELECT g / 2 + 1, (g * 7) % 50000 + 1, 1, 9.99, 9.99 " +
+                    "FROM generate_series(0, 999999) g");
+            statement.execute("INSERT INTO stock_reservations (order_id, product_id, quantity, status, expires_at, created_at) " +
+                    "SELECT g, g % 50000 + 1, 1, CASE WHEN g % 100 = 0 THEN 'HELD' ELSE 'CONVERTED' END, " +
+                    "timestamp '2024-01-01' + g * interval '1 minute', now() " +
+                    "FROM generate_series(1, 100000) g");
+            statement.execute("INSERT INTO order_outbox (type, order_id, order_number, user_id, status, created_at, published_at) " +
+                    "SELECT 'CREATED', g, 'ORD-' || g, g % 20000 + 1, 'PENDING', now(), " +
+                    "CASE WHEN g > 99900 THEN NULL ELSE now() END " +
+                    "FROM generate_series(1, 100000) g");
+            // Closed orders moved out by OrderArchiveService
+            statement.execute("INSERT INTO orders_archive (id, order_number, user_id, total_amount, status, created_at) " +
+                    "SELECT 1000000 + g, 'ARC-' || g, g % 20000 + 1, 19.98, 'DELIVERED', " +
+                    "timestamp '2023-01-01' + g * interval '1 minute' " +
+                    "FROM generate_series(1, 100000) g");
+            statement.execute("INSERT INTO order_items_archive (id, order_id, product_id, quantity, price, subtotal) " +
+                    "SELECT 2000000 + g, 1000000 + g / 2 + 1, (g * 7) % 50000 + 1, 1, 9.99, 9.99 " +
+                    "FROM generate_series(0, 199999) g");
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        POSTGRES.close();
+    }
+
+    static Stream<Arguments> finders() {
+        return Stream.of(
+                // OrderRepository
+                Arguments.of("findById", "orders", "orders_pkey",
+                        "SELECT * FROM orders o WHERE o.id = 4242"),
+                Arguments.of("findByOrderNumber", "orders", "uk_orders_order_number",
+                        "SELECT * FROM orders o WHERE o.order_number = 'ORD-4242'"),
+                Arguments.of("findByUserId", "orders", "idx_orders_user_status",
+                        "SELECT * FROM orders o WHERE o.user_id = 4242"),
+                Arguments.of("findWithItemsByUserId", "order_items", "idx_order_items_order",
+                        "SELECT DISTINCT o.*, i.*, p.* FROM orders o JOIN users u ON u.id = o.user_id " +
+                                "LEFT JOIN order_items i ON i.order_id = o.id " +
+                                "LEFT JOIN products p ON p.id = i.product_id WHERE o.user_id = 4242 ORDER BY o.id"),
+                Arguments.of("findWithItemsByIdIn", "order_items", "idx_order_items_order",
+                        "SELECT DISTINCT o.*, i.*, p.* FROM orders o JOIN users u ON u.id = o.user_id " +
+                                "LEFT JOIN order_items i ON i.order_id = o.id " +
+                                "LEFT JOIN products p ON p.id = i.product_id WHERE o.id IN (10, 20, 30, 40)"),
+                Arguments.of("findByStatus", "orders", "idx_orders_status",
+                        "SELECT * FROM orders o WHERE o.status = 'PENDING'"),
+                Arguments.of("findByUserIdAndStatus", "orders", "idx_orders_user_status",
+                        "SELECT * FROM orders o WHERE o.user_id = 4242 AND o.status = 'DELIVERED'"),
+                Arguments.of("findOrdersBetweenDates", "orders", "idx_orders_created_id",
+                        "SELECT * FROM orders o WHERE o.created_at BETWEEN timestamp '2024-03-01' AND timestamp '2024-03-02'"),
+                Arguments.of("keyset page by (created_at, id)", "orders", "idx_orders_created_id",
+                        "SELECT * FROM orders o WHERE (o.created_at, o.id) > (timestamp '2024-03-01', 86400) " +
+                                "ORDER BY o.created_at, o.id FETCH FIRST 50 ROWS ONLY"),
+                Arguments.of("countOrdersByUserId", "orders", "idx_orders_user_status",
+                        "SELECT count(o.id) FROM orders o WHERE o.user_id = 4242"),
+                Arguments.of("order items of a product", "order_items", "idx_order_items_product",
+                        "SELECT * FROM order_items i WHERE i.product_id = 4242"),
+                // ProductRepository
+                Arguments.of("findByCategory", "products", "idx_products_category",
+                        "SELECT * FROM products p WHERE p.category = 'Category 42'"),
+                Arguments.of("findByActiveTrue", "products", "idx_products_active_stock",
+                        "SELECT * FROM products p WHERE p.active = true"),
+                Arguments.of("findAvailableProducts", "products", "idx_products_active_stock",
+                        "SELECT * FROM products p WHERE p.active = true AND p.stock > 0"),
+                Arguments.of("existsByName", "products", "idx_products_name",
+                        "SELECT p.id FROM products p WHERE p.name = 'Product 4242' FETCH FIRST 1 ROWS ONLY"),
+                Arguments.of("findExistingNames", "products", "idx_products_name",
+                        "SELECT p.name FROM products p WHERE p.name IN ('Product 1', 'Product 2', 'Product 3')"),
+                // UserRepository
+                Arguments.of("findByEmail", "users", "users_email_key",
+                        "SELECT * FROM users u WHERE u.email = 'user-4242@example.com'"),
+                // StockReservationRepository
+                Arguments.of("findExpired", "stock_reservations", "idx_reservation_status_expires",
+                        "SELECT * FROM stock_reservations r WHERE r.status = 'HELD' " +
+                                "AND r.expires_at < timestamp '2024-01-10' ORDER BY r.expires_at FETCH FIRST 500 ROWS ONLY"),
+                Arguments.of("updateStatusForOrder", "stock_reservations", "idx_reservation_order",
+                        "SELECT * FROM stock_reservations r WHERE r.order_id = 4242 AND r.status = 'HELD'"),
+                // OrderArchiveService
+                Arguments.of("archive findById", "orders_archive", "orders_archive_pkey",
+                        "SELECT * FROM orders_archive o JOIN users u ON u.id = o.user_id WHERE o.id = 1004242"),
+                Arguments.of("archive findByOrderNumber", "orders_archive", "idx_orders_archive_order_number",
+                        "SELECT * FROM orders_archive o JOIN users u ON u.id = o.user_id WHERE o.order_number = 'ARC-4242'"),
+                Arguments.of("archive findByUserId", "orders_archive", "idx_orders_archive_user",
+                        "SELECT * FROM orders_archive o JOIN users u ON u.id = o.user_id WHERE o.user_id = 4242 ORDER BY o.id"),
+                Arguments.of("archive items", "order_items_archive", "idx_order_items_archive_order",
+                        "SELECT * FROM order_items_archive i LEFT JOIN products p ON p.id = i.product_id " +
+                                "WHERE i.order_id IN (1004242, 1004243) ORDER BY i.id"),
+                Arguments.of("archive batch", "orders", "idx_orders_created_id",
+                        "SELECT id, created_at FROM orders WHERE created_at < timestamp '2024-01-02' " +
+                                "AND status IN ('DELIVERED', 'CANCELLED') ORDER BY created_at LIMIT 1000 FOR UPDATE SKIP LOCKED"),
+                // OutboxEventRepository
+                Arguments.of("findUnpublished", "order_outbox", "idx_outbox_published_id",
+                        "SELECT * FROM order_outbox e WHERE e.published_at IS NULL ORDER BY e.id FETCH FIRST 500 ROWS ONLY"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("finders")
+    void finderUsesIndex(String finder, String table, String index, String sql) throws Exception {
+        JsonNode plan = explain(sql);
+        List<JsonNode> nodes = new ArrayList<>();
+        collect(plan, nodes);
+
+        assertThat(nodes)
+                .as("%s must not scan %s sequentially:%n%s", finder, table, plan.toPrettyString())
+                .noneMatch(node -> "Seq Scan".equals(node.path("Node Type").asText())
+                        && table.equals(root(node.path("Relation Name").asText())));
+        assertThat(nodes)
+                .as("%s should use %s:%n%s", finder, index, plan.toPrettyString())
+                .anyMatch(node -> node.has("Index Name") && index.equals(root(node.path("Index Name").asText())));
+    }
+
+    private static String root(String name) {
+        String sql = "SELECT p.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent WHERE c.relname = '" + name + "'";
+        try (Connection connection = POSTGRES.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? root(resultSet.getString(1)) : name;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JsonNode explain(String sql) throws SQLException, IOException {
+        try (Connection connection = POSTGRES.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN (FORMAT JSON) " + sql)) {
+            resultSet.next();
+            return JSON.readTree(resultSet.getString(1)).get(0).get("Plan");
+        }
+    }
+
+    private static void collect(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, nodes);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.project.order_management_system.repository;
+
+import com.project.order_management_system.config.JdbcInspectionConfig;
+import com.project.order_management_system.config.StatementCapture;
+import com.project.order_management_system.entity.Money;
+import com.project.order_management_system.entity.Order;
+import com.project.order_management_system.entity.OrderItem;
+import com.project.order_management_system.entity.OrderStatus;
+import com.project.order_management_system.entity.Product;
+import com.project.order_management_system.entity.User;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * N+1 regression test: runs the OrderRepository and ProductRepository access
+ * paths against the migrated schema on embedded PostgreSQL, reads the
+ * associations the services read from the results (user, items, item
+ * products), and fails when any statement is executed more than once.
+ * <p>
+ * The second-level and query caches are off, so every load that would hit
+ * the database in a cold cache shows up here.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JdbcInspectionConfig.class)
+class RepositoryStatementTest {
+
+    private static final int USERS = 3;
+    private static final int PRODUCTS = 10;
+    private static final int ORDERS_PER_USER = 8;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    private static final EmbeddedPostgres POSTGRES;
+
+    static {
+        try {
+            POSTGRES = EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        POSTGRES.close();
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Product> products = new ArrayList<>();
+    private final List<Order> orders = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        for (int u = 0; u < USERS; u++) {
+            users.add(entityManager.persist(User.builder()
+                    .name("User " + u)
+                    .email("statement-test-" + u + "@example.com")
+                    .password("password")
+                    .phone("9000000000")
+                    .build()));
+        }
+        for (int p = 0; p < PRODUCTS; p++) {
+            products.add(entityManager.persist(Product.builder()
+                    .name("Product " + p)
+                    .price(new BigDecimal("9.99"))
+                    .stock(100)
+                    .active(true)
+                    .category("Category " + p % 3)
+                    .build()));
+        }
+        int number = 0;
+        for (User user : users) {
+            for (int o = 0; o < ORDERS_PER_USER; o++, number++) {
+                Order order = Order.builder()
+                        .orderNumber("ORD-STMT-" + number)
+                        .user(user)
+                        .status(number % 2 == 0 ? OrderStatus.PENDING : OrderStatus.CONFIRMED)
+                        .totalAmount(Money.ZERO)
+                        .build();
+                for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+                    order.getItems().add(OrderItem.builder()
+                            .order(order)
+                            .product(products.get((number + i) % PRODUCTS))
+                            .quantity(1)
+                            .price(Money.of(new BigDecimal("9.99")))
+                            .build());
+                }
+                order.calculateTotal();
+                orders.add(entityManager.persist(order));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // OrderRepository
+
+    @Test
+    void findById() {
+        assertNoRepeatedStatements(() -> touch(List.of(orderRepository.findById(orders.get(0).getId()).orElseThrow())));
+    }
+
+    @Test
+    void findByOrderNumber() {
+        assertNoRepeatedStatements(() -> touch(List.of(orderRepository.findByOrderNumber("ORD-STMT-1").orElseThrow())));
+    }
+
+    @Test
+    void findAllWithItems() {
+        assertNoRepeatedStatements(() -> touch(orderRepository.findAllWithItems()));
+    }
+
+    @Test
+    void findWithItemsByUserId() {
+        assertNoRepeatedStatements(() -> touch(orderRepository.findWithItemsByUserId(users.get(0).getId())));
+    }
+
+    @Test
+    void findWithItemsByIdIn() {
+        assertNoRepeatedStatements(() -> touch(orderRepository.findWithItemsByIdIn(orderIds(orders.subList(0, 5)))));
+    }
+
+    @Test
+    void findAllById() {
+        assertNoRepeatedStatements(() -> touch(orderRepository.findAllById(orderIds(orders))));
+    }
+
+    @Test
+    void findByUserId() {
+        assertNoRepeatedStatements(() -> touch(orderRepository.findByUserId(users.get(1).getId())));
+    }
+
+    @Test
+    void findByStatus() {
+        assertNoRepeatedStatements(() -> touch(orderRepository.findByStatus(OrderStatus.PENDING)));
+    }
+
+    @Test
+    void findByUserIdAndStatus() {
+        assertNoRepeatedStatements(() -> touch(orderRepository.findByUserIdAndStatus(
+                users.get(2).getId(), OrderStatus.CONFIRMED)));
+    }
+
+    @Test
+    void findOrdersBetweenDates() {
+        assertNoRepeatedStatements(() -> touch(orderRepository.findOrdersBetweenDates(
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1))));
+    }
+
+    @Test
+    void findAllForUpdate() {
+        // Bulk status updates only read the order's own columns
+        assertNoRepeatedStatements(() -> orderRepository.findAllForUpdate(orderIds(orders))
+                .forEach(order -> order.getStatus().name()));
+    }
+
+    // ProductRepository
+
+    @Test
+    void productFinders() {
+        assertNoRepeatedStatements(() -> productRepository.findAll());
+        assertNoRepeatedStatements(() -> productRepository.findByActiveTrue());
+        assertNoRepeatedStatements(() -> productRepository.findByCategory("Category 1"));
+        assertNoRepeatedStatements(() -> productRepository.findAvailableProducts());
+        assertNoRepeatedStatements(() -> productRepository.findDistinctCategories());
+        assertNoRepeatedStatements(() -> productRepository.findExistingNames(List.of("Product 1", "Product 2")));
+        assertNoRepeatedStatements(() -> productRepository.findAllById(productIds()));
+    }
+
+    @Test
+    void productFindAllForUpdate() {
+        assertNoRepeatedStatements(() -> productRepository.findAllForUpdate(productIds()));
+    }
+
+    /**
+     * Reads what OrderService.mapToOrderResponse reads.
+     */
+    private static void touch(List<Order> found) {
+        assertThat(found).isNotEmpty();
+        for (Order order : found) {
+            assertThat(order.getUser().getName()).isNotNull();
+            for (OrderItem item : order.getItems()) {
+                assertThat(item.getProduct().getName()).isNotNull();
+            }
+        }
+    }
+
+    private void assertNoRepeatedStatements(Runnable access) {
+        entityManager.clear();
+        try (StatementCapture capture = StatementCapture.start()) {
+            access.run();
+            assertThat(capture.count()).as("statements executed").isPositive();
+            assertThat(capture.repeated()).as("statements executed more than once").isEmpty();
+        }
+    }
+
+    private static List<Long> orderIds(List<Order> orders) {
+        return orders.stream().map(Order::getId).toList();
+    }
+
+    private List<Long> productIds() {
+        return products.stream().map(Product::getId).toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.project.order_management_system.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hammers one token bucket from many threads, as a single bot client spread
+ * over all request threads would. Reports acquire throughput under
+ * contention and checks that no more requests are admitted than the burst
+ * plus the refill over the run.
+ */
+class TokenBucketLoadTest {
+
+    private static final int THREADS = Integer.getInteger("loadtest.bucket-threads", 32);
+    private static final int DURATION_MILLIS = Integer.getInteger("loadtest.bucket-duration-millis", 3000);
+    private static final int CAPACITY = 100;
+    private static final double PER_SECOND = 1000;
+
+    @Test
+    void admitsNoMoreThanBurstPlusRefillUnderContention() throws Exception {
+        long start = System.nanoTime();
+        TokenBucket bucket = new TokenBucket(CAPACITY, PER_SECOND, start);
+        long end = start + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            results.add(executor.submit(() -> {
+                long admitted = 0;
+                long attempts = 0;
+                long now;
+                while ((now = System.nanoTime()) < end) {
+                    attempts++;
+                    if (bucket.tryAcquire(now) == 0) {
+                        admitted++;
+                    }
+                }
+                return new long[] { admitted, attempts };
+            }));
+        }
+
+        long admitted = 0;
+        long attempts = 0;
+        for (Future<long[]> result : results) {
+            long[] counts = result.get();
+            admitted += counts[0];
+            attempts += counts[1];
+        }
+        executor.shutdown();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%nToken bucket, %d threads, %.2f s%n", THREADS, seconds);
+        System.out.printf("  attempts: %,d (%,.0f/s)%n", attempts, attempts / seconds);
+        System.out.printf("  admitted: %,d%n", admitted);
+
+        assertThat(admitted).isLessThanOrEqualTo((long) (CAPACITY + PER_SECOND * seconds) + 1);
+        // Nearly all of the refill is handed out despite the contention
+        assertThat(admitted).isGreaterThanOrEqualTo((long) (PER_SECOND * DURATION_MILLIS / 1000 * 0.9));
+    }
+}
@@ -0,0 +1,165 @@
+package com.project.order_management_system.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.order_management_system.dto.OrderStatusEvent;
+import com.project.order_management_system.entity.OrderEventType;
+import com.project.order_management_system.entity.OrderStatus;
+import com.project.order_management_system.entity.WebhookSubscription;
+import com.project.order_management_system.security.WebhookSigner;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives WebhookSender against a local stub server: a healthy partner, a
+ * flaky one that answers every fifth request with 503, and one that takes
+ * seconds per request. Reports delivery throughput and checks that every
+ * event arrives signed, that retries recover the failures and that the slow
+ * partner does not hold up the others.
+ */
+class WebhookDeliveryLoadTest {
+
+    private static final int EVENTS = Integer.getInteger("loadtest.webhook-events", 20_000);
+    private static final String SECRET = "webhook-load-test-secret-with-at-least-256-bits!!";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final WebhookSigner signer = new WebhookSigner(SECRET);
+    private final AtomicInteger badSignatures = new AtomicInteger();
+    private final AtomicInteger flakyRequests = new AtomicInteger();
+
+    private HttpServer server;
+    private WebhookSender sender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(32));
+        server.start();
+
+        sender = new WebhookSender(new WebhookSender.Settings(50, 2, EVENTS, 8,
+                Duration.ofMillis(20), Duration.ofMillis(500), Duration.ofSeconds(10)),
+                objectMapper, signer, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void deliversEveryEventDespiteFailuresAndSlowPartners() throws Exception {
+        Set<Long> fastReceived = ConcurrentHashMap.newKeySet();
+        Set<Long> flakyReceived = ConcurrentHashMap.newKeySet();
+        server.createContext("/fast", exchange -> receive(exchange, 1L, fastReceived));
+        server.createContext("/flaky", exchange -> {
+            if (flakyRequests.incrementAndGet() % 5 == 0) {
+                respond(exchange, 503);
+                return;
+            }
+            receive(exchange, 2L, flakyReceived);
+        });
+        server.createContext("/slow", exchange -> {
+            sleep(2000);
+            respond(exchange, 200);
+        });
+
+        WebhookSubscription fast = subscription(1L, "/fast");
+        WebhookSubscription flaky = subscription(2L, "/flaky");
+        WebhookSubscription slow = subscription(3L, "/slow");
+
+        CountDownLatch fastDone = new CountDownLatch(EVENTS);
+        CountDownLatch flakyDone = new CountDownLatch(EVENTS);
+        long start = System.nanoTime();
+        for (int i = 1; i <= EVENTS; i++) {
+            OrderStatusEvent event = event(i);
+            assertThat(sender.enqueue(fast, new WebhookSender.Delivery(event, fastDone::countDown))).isTrue();
+            assertThat(sender.enqueue(flaky, new WebhookSender.Delivery(event, flakyDone::countDown))).isTrue();
+            sender.enqueue(slow, new WebhookSender.Delivery(event, () -> { }));
+        }
+
+        assertThat(fastDone.await(60, TimeUnit.SECONDS)).as("fast partner finished").isTrue();
+        double fastSeconds = (System.nanoTime() - start) / 1e9;
+        assertThat(flakyDone.await(120, TimeUnit.SECONDS)).as("flaky partner finished").isTrue();
+        double flakySeconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%nWebhook delivery of %d events%n", EVENTS);
+        System.out.printf("  fast partner : %6.2f s  %8.0f events/s%n", fastSeconds, EVENTS / fastSeconds);
+        System.out.printf("  flaky partner: %6.2f s  %8.0f events/s, %d requests (every 5th answered 503)%n",
+                flakySeconds, EVENTS / flakySeconds, flakyRequests.get());
+
+        assertThat(fastReceived).hasSize(EVENTS);
+        assertThat(flakyReceived).hasSize(EVENTS);
+        assertThat(badSignatures.get()).isZero();
+        // 2 s per request with 2 in flight: the slow partner can't have finished, yet the others did
+        assertThat(fastSeconds).isLessThan(EVENTS / 50 / 2 * 2.0);
+    }
+
+    private void receive(HttpExchange exchange, Long subscriptionId, Set<Long> received) throws IOException {
+        byte[] body = exchange.getRequestBody().readAllBytes();
+        String timestamp = exchange.getRequestHeaders().getFirst("X-Webhook-Timestamp");
+        String signature = exchange.getRequestHeaders().getFirst("X-Webhook-Signature");
+        if (!("sha256=" + signer.sign(subscriptionId, timestamp, body)).equals(signature)) {
+            badSignatures.incrementAndGet();
+            respond(exchange, 401);
+            return;
+        }
+        for (JsonNode event : objectMapper.readTree(body)) {
+            received.add(event.get("eventId").asLong());
+        }
+        respond(exchange, 200);
+    }
+
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private WebhookSubscription subscription(Long id, String path) {
+        return WebhookSubscription.builder()
+                .id(id)
+                .name(path.substring(1))
+                .url("http://127.0.0.1:" + server.getAddress().getPort() + path)
+                .build();
+    }
+
+    private static OrderStatusEvent event(long id) {
+        return OrderStatusEvent.builder()
+                .eventId(id)
+                .type(OrderEventType.STATUS_CHANGED)
+                .orderId(id)
+                .orderNumber("ORD-" + id)
+                .userId(id % 100)
+                .previousStatus(OrderStatus.PENDING)
+                .status(OrderStatus.CONFIRMED)
+                .totalAmount(BigDecimal.valueOf(id, 2))
+                .occurredAt(LocalDateTime.now().toString())
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.project.order_management_system.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enforces the per-cache max entry size on the serialized value: oversized
+ * values, such as very long order histories, are skipped instead of stored
+ * (and any previous value for the key removed).
+ * Also records the size distribution of stored values per cache, and reports
+ * every blocking Redis call to the current {@link RequestCost}.
+ */
+@Slf4j
+class BudgetedRedisCacheWriter implements RedisCacheWriter {
+
+    private final RedisCacheWriter delegate;
+    private final RedisCacheProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, Long> limits = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> entrySizes = new ConcurrentHashMap<>();
+    private final Map<String, Counter> skipped = new ConcurrentHashMap<>();
+
+    BudgetedRedisCacheWriter(RedisCacheWriter delegate, RedisCacheProperties properties, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        long start = System.nanoTime();
+        if (admit(name, value)) {
+            delegate.put(name, key, value, ttl);
+        } else {
+            // Drop any previous value so a skipped @CachePut doesn't leave a stale entry
+            delegate.remove(name, key);
+        }
+        RequestCost.redisWrite(System.nanoTime() - start);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+        if (admit(name, value)) {
+            return delegate.store(name, key, value, ttl);
+        }
+        delegate.remove(name, key);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        if (!admit(name, value)) {
+            return null;
+        }
+        long start = System.nanoTime();
+        byte[] previous = delegate.putIfAbsent(name, key, value, ttl);
+        RequestCost.redisWrite(System.nanoTime() - start);
+        return previous;
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        long start = System.nanoTime();
+        byte[] value = delegate.get(name, key);
+        RequestCost.redisRead(System.nanoTime() - start, value != null ? 1 : 0);
+        return value;
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key, Duration ttl) {
+        long start = System.nanoTime();
+        byte[] value = delegate.get(name, key, ttl);
+        RequestCost.redisRead(System.nanoTime() - start, value != null ? 1 : 0);
+        return value;
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return delegate.supportsAsyncRetrieve();
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+        return delegate.retrieve(name, key, ttl);
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        long start = System.nanoTime();
+        delegate.remove(name, key);
+        RequestCost.redisWrite(System.nanoTime() - start);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        long start = System.nanoTime();
+        delegate.clean(name, pattern);
+        RequestCost.redisWrite(System.nanoTime() - start);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new BudgetedRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector), properties, registry);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+    private boolean admit(String name, byte[] value) {
+        long limit = limits.computeIfAbsent(name, n -> properties.spec(n).getMaxEntrySize().toBytes());
+        if (value.length > limit) {
+            skipped.computeIfAbsent(name, n -> Counter.builder("cache.puts.skipped")
+                    .description("Values not cached because they exceed the max entry size")
+                    .tag("cache", n)
+                    .register(registry)).increment();
+            log.debug("Not caching {} bytes in '{}', limit is {} bytes", value.length, name, limit);
+            return false;
+        }
+
+        entrySizes.computeIfAbsent(name, n -> DistributionSummary.builder("cache.entry.size")
+                .description("Serialized size of cached values")
+                .baseUnit("bytes")
+                .tag("cache", n)
+                .publishPercentiles(0.5, 0.99)
+                .register(registry)).record(value.length);
+        return true;
+    }
+}
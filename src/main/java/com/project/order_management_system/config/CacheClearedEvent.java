@@ -0,0 +1,8 @@
+package com.project.order_management_system.config;
+
+/**
+ * Published when a whole cache is cleared (allEntries eviction), so its hot
+ * entries can be repopulated in the background.
+ */
+public record CacheClearedEvent(String cacheName) {
+}
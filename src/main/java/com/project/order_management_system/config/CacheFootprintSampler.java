@@ -0,0 +1,118 @@
+package com.project.order_management_system.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the Redis memory footprint of each cache as gauges
+ * (cache.footprint.bytes / cache.footprint.entries). Keys are found with SCAN
+ * on the cache prefix and value sizes read with pipelined STRLEN, off the
+ * request path on a fixed interval.
+ */
+@Component
+@Slf4j
+public class CacheFootprintSampler {
+
+    private static final int PIPELINE_BATCH = 500;
+
+    private final CacheManager cacheManager;
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisCacheProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, AtomicLong[]> footprints = new ConcurrentHashMap<>();
+
+    public CacheFootprintSampler(CacheManager cacheManager,
+                                 RedisConnectionFactory connectionFactory,
+                                 RedisCacheProperties properties,
+                                 MeterRegistry registry) {
+        this.cacheManager = cacheManager;
+        this.connectionFactory = connectionFactory;
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.redis.footprint-sample-interval:1m}")
+    public void sample() {
+        for (String name : cacheManager.getCacheNames()) {
+            try {
+                sample(name);
+            } catch (Exception e) {
+                log.warn("Could not sample footprint of cache '{}': {}", name, e.getMessage());
+            }
+        }
+    }
+
+    private void sample(String name) {
+        String prefix = RedisConfig.keyPrefix(properties.spec(name), name);
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1000).build();
+
+        long bytes = 0;
+        long entries = 0;
+        try (RedisConnection connection = connectionFactory.getConnection();
+             Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            List<byte[]> batch = new ArrayList<>(PIPELINE_BATCH);
+            while (cursor.hasNext() && entries < properties.getFootprintMaxKeys()) {
+                batch.add(cursor.next());
+                entries++;
+                if (batch.size() == PIPELINE_BATCH) {
+                    bytes += sizeOf(connection, batch);
+                    batch.clear();
+                }
+            }
+            bytes += sizeOf(connection, batch);
+        }
+
+        AtomicLong[] gauges = footprints.computeIfAbsent(name, this::register);
+        gauges[0].set(bytes);
+        gauges[1].set(entries);
+    }
+
+    private long sizeOf(RedisConnection connection, List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        connection.openPipeline();
+        for (byte[] key : keys) {
+            connection.stringCommands().strLen(key);
+        }
+        long total = 0;
+        for (byte[] key : keys) {
+            total += key.length;
+        }
+        for (Object length : connection.closePipeline()) {
+            if (length instanceof Long value) {
+                total += value;
+            }
+        }
+        return total;
+    }
+
+    private AtomicLong[] register(String name) {
+        AtomicLong bytes = new AtomicLong();
+        AtomicLong entries = new AtomicLong();
+        Gauge.builder("cache.footprint.bytes", bytes, AtomicLong::get)
+                .description("Approximate Redis memory used by keys and values of the cache")
+                .baseUnit("bytes")
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.footprint.entries", entries, AtomicLong::get)
+                .description("Number of keys of the cache in Redis")
+                .tag("cache", name)
+                .register(registry);
+        return new AtomicLong[] { bytes, entries };
+    }
+}
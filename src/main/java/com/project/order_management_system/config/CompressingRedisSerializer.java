@@ -0,0 +1,127 @@
+package com.project.order_management_system.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LZ4-compresses serialized cache values of at least {@code threshold} bytes.
+ * Compressed values start with a magic header followed by the original
+ * length; anything else (small values, entries written before compression
+ * was enabled) is passed to the delegate unchanged, so the JSON serializer
+ * keeps working on mixed data.
+ * <p>
+ * Per cache it records the compression ratio (original / stored) and the
+ * time spent compressing and decompressing, to judge whether the CPU pays
+ * for the saved network and Redis memory.
+ */
+class CompressingRedisSerializer implements RedisSerializer<Object> {
+
+    // JSON never starts with 0x00, so the header can't clash with plain values
+    private static final byte[] MAGIC = { 0x00, 'L', 'Z', '4' };
+    private static final int HEADER_LENGTH = MAGIC.length + Integer.BYTES;
+
+    // Pure Java codec: no JNI, same behaviour on every platform
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestJavaInstance();
+
+    private final RedisSerializer<Object> delegate;
+    private final int threshold;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+    private final DistributionSummary ratio;
+    private final Timer compressTimer;
+    private final Timer decompressTimer;
+
+    CompressingRedisSerializer(RedisSerializer<Object> delegate, int threshold, String cacheName,
+                               MeterRegistry registry) {
+        this.delegate = delegate;
+        this.threshold = threshold;
+        this.ratio = DistributionSummary.builder("cache.compression.ratio")
+                .description("Original size divided by compressed size of cached values")
+                .tag("cache", cacheName)
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.compressTimer = Timer.builder("cache.compression.duration")
+                .description("CPU time spent compressing or decompressing cached values")
+                .tag("cache", cacheName)
+                .tag("operation", "compress")
+                .register(registry);
+        this.decompressTimer = Timer.builder("cache.compression.duration")
+                .description("CPU time spent compressing or decompressing cached values")
+                .tag("cache", cacheName)
+                .tag("operation", "decompress")
+                .register(registry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] raw = delegate.serialize(value);
+        if (raw == null || raw.length < threshold) {
+            return raw;
+        }
+
+        long start = System.nanoTime();
+        byte[] compressed = compress(raw);
+        compressTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        // Incompressible payloads are stored as-is rather than growing them
+        if (compressed.length >= raw.length) {
+            ratio.record(1.0);
+            return raw;
+        }
+        ratio.record((double) raw.length / compressed.length);
+        return compressed;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (!isCompressed(bytes)) {
+            return delegate.deserialize(bytes);
+        }
+
+        long start = System.nanoTime();
+        byte[] raw = decompress(bytes);
+        decompressTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return delegate.deserialize(raw);
+    }
+
+    byte[] compress(byte[] raw) {
+        byte[] out = new byte[HEADER_LENGTH + compressor.maxCompressedLength(raw.length)];
+        System.arraycopy(MAGIC, 0, out, 0, MAGIC.length);
+        ByteBuffer.wrap(out, MAGIC.length, Integer.BYTES).putInt(raw.length);
+        int length = compressor.compress(raw, 0, raw.length, out, HEADER_LENGTH);
+        return Arrays.copyOf(out, HEADER_LENGTH + length);
+    }
+
+    byte[] decompress(byte[] bytes) {
+        int originalLength = ByteBuffer.wrap(bytes, MAGIC.length, Integer.BYTES).getInt();
+        byte[] raw = new byte[originalLength];
+        try {
+            decompressor.decompress(bytes, HEADER_LENGTH, raw, 0, originalLength);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not decompress cached value", e);
+        }
+        return raw;
+    }
+
+    static boolean isCompressed(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (bytes[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -4,65 +4,56 @@ import com.project.order_management_system.entity.Product;
 import com.project.order_management_system.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.CommandLineRunner;
-import org.springframework.context.annotation.Bean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 
 import java.math.BigDecimal;
 import java.util.List;
-
+import java.util.Set;
+
+/**
+ * Adds the demo catalog for local development. Opt-in with
+ * app.demo-data.enabled=true; never deletes anything, and only inserts
+ * demo products that are missing. Runs once the node already accepts
+ * traffic so it never delays readiness. For large synthetic datasets use
+ * {@link LargeDatasetSeeder}.
+ */
 @Configuration
+@ConditionalOnProperty(name = "app.demo-data.enabled", havingValue = "true")
 @RequiredArgsConstructor
 @Slf4j
 public class DataInitializer {
 
         private final org.springframework.cache.CacheManager cacheManager;
-        private final com.project.order_management_system.repository.OrderRepository orderRepository;
-
-        @Bean
-        CommandLineRunner initDatabase(ProductRepository productRepository) {
-                return args -> {
-                        // FIX: Clear Redis cache on startup to prevent ClassCastException with DevTools
-                        if (cacheManager.getCache("orders") != null)
-                                cacheManager.getCache("orders").clear();
-                        if (cacheManager.getCache("userOrders") != null)
-                                cacheManager.getCache("userOrders").clear();
-                        if (cacheManager.getCache("products") != null) {
-                                cacheManager.getCache("products").clear();
-                                log.info("🧹 Redis Cache cleared");
-                        }
-
-                        // CLEANUP: Unconditionally delete all previous orders and products
-                        log.info("Cleaning up previous orders...");
-                        orderRepository.deleteAll();
-                        log.info("Previous orders deleted.");
-
-                        log.info("Cleaning up previous products to remove duplicates...");
-                        productRepository.deleteAll();
-                        log.info("Previous products deleted.");
-
-                        long currentCount = productRepository.count();
-                        log.info("Current product count: {}", currentCount);
-
-                        log.info("Checking demo products...");
-
-                        // Helper to add product if not exists
-                        List<Product> demoProducts = getDemoProducts();
-                        for (Product p : demoProducts) {
-                                addProductIfNotExists(productRepository, p);
-                        }
-
-                        log.info("✅ Data initialization complete! Total products: {}", productRepository.count());
-                };
-        }
+        private final ProductRepository productRepository;
+
+        @EventListener
+        public void initDatabase(AvailabilityChangeEvent<ReadinessState> event) {
+                if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC) {
+                        return;
+                }
 
-        private void addProductIfNotExists(ProductRepository repository, Product product) {
-                if (!repository.existsByName(product.getName())) {
-                        repository.save(product);
-                        log.info("Added demo product: {}", product.getName());
-                } else {
-                        log.info("Product already exists: {}", product.getName());
+                // FIX: Clear Redis cache on startup to prevent ClassCastException with DevTools
+                for (String name : List.of("orders", "userOrders", "products")) {
+                        if (cacheManager.getCache(name) != null)
+                                cacheManager.getCache(name).clear();
                 }
+                log.info("🧹 Redis Cache cleared");
+
+                List<Product> demoProducts = getDemoProducts();
+                Set<String> existing = productRepository.findExistingNames(
+                                demoProducts.stream().map(Product::getName).toList());
+
+                List<Product> missing = demoProducts.stream()
+                                .filter(p -> !existing.contains(p.getName()))
+                                .toList();
+                productRepository.saveAll(missing);
+
+                log.info("✅ Demo data ready: {} products added, {} already present",
+                                missing.size(), existing.size());
         }
 
         private List<Product> getDemoProducts() {
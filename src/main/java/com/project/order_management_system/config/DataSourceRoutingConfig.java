@@ -0,0 +1,82 @@
+package com.project.order_management_system.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured DataSource when app.datasource.routing.enabled
+ * is set: read-only transactions go to the replicas, everything else, Flyway
+ * included, to the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig implements WebMvcConfigurer {
+
+    private final DataSourceRoutingProperties routingProperties;
+
+    public DataSourceRoutingConfig(DataSourceRoutingProperties routingProperties) {
+        this.routingProperties = routingProperties;
+    }
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource, MeterRegistry meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : routingProperties.getReplicas()) {
+            HikariDataSource pool = new HikariDataSource();
+            primaryDataSource.copyStateTo(pool);
+            pool.setPoolName("replica-" + (replicas.size() + 1));
+            pool.setJdbcUrl(replica.getUrl());
+            if (replica.getUsername() != null) {
+                pool.setUsername(replica.getUsername());
+                pool.setPassword(replica.getPassword());
+            }
+            if (replica.getMaximumPoolSize() != null) {
+                pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            }
+            pool.setReadOnly(true);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(pool);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, routingProperties.getMaxLag(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    ReadYourWritesInterceptor readYourWritesInterceptor() {
+        return new ReadYourWritesInterceptor(routingProperties.getReadYourWritesWindow());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readYourWritesInterceptor());
+    }
+}
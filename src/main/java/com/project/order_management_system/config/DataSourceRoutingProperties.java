@@ -0,0 +1,46 @@
+package com.project.order_management_system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas for read-only transactions, e.g.
+ * <pre>
+ * app.datasource.routing.enabled=true
+ * app.datasource.routing.replicas[0].url=jdbc:postgresql://replica-1:5432/orders
+ * </pre>
+ * Replica credentials and pool settings default to the primary's
+ * (spring.datasource.*).
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Replicas further behind the primary than this are skipped
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    // How long a user's reads stay on the primary after one of their writes
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    @Data
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private Integer maximumPoolSize;
+    }
+}
@@ -0,0 +1,106 @@
+package com.project.order_management_system.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Times every statement executed through the application's DataSource and
+ * hands it, with its SQL, to the {@link StatementMonitor}. Connections and
+ * statements are wrapped in JDK proxies; everything but the execute calls
+ * passes straight through, unwrap included.
+ */
+class InstrumentedDataSource extends DelegatingDataSource {
+
+    private static final String BATCH = "<batch>";
+
+    private final ObjectProvider<StatementMonitor> monitorProvider;
+    private volatile StatementMonitor monitor;
+
+    InstrumentedDataSource(DataSource target, ObjectProvider<StatementMonitor> monitorProvider) {
+        super(target);
+        this.monitorProvider = monitorProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private Connection connection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    Object result = invoke(proxy, target, method, args);
+                    // prepareStatement/prepareCall take the SQL up front
+                    String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                    if (result instanceof CallableStatement statement) {
+                        return statement(statement, CallableStatement.class, sql);
+                    }
+                    if (result instanceof PreparedStatement statement) {
+                        return statement(statement, PreparedStatement.class, sql);
+                    }
+                    if (result instanceof Statement statement) {
+                        return statement(statement, Statement.class, null);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement statement(Statement target, Class<? extends Statement> type, String preparedSql) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(proxy, target, method, args);
+            }
+            // Plain statements get their SQL with each execute call
+            String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String s ? s : BATCH;
+            long start = System.nanoTime();
+            try {
+                return invoke(proxy, target, method, args);
+            } finally {
+                executed(sql, System.nanoTime() - start);
+            }
+        };
+        return (Statement) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(),
+                new Class<?>[] { type }, handler);
+    }
+
+    private void executed(String sql, long nanos) {
+        StatementMonitor current = monitor;
+        if (current == null) {
+            current = monitorProvider.getObject();
+            monitor = current;
+        }
+        current.executed(sql, nanos);
+    }
+
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        // Identity of the proxy itself: Hibernate keeps statements in hash maps
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.order_management_system.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Statement inspection: every statement of the application's DataSource is
+ * timed for {@link RequestCost}, checked for slowness and repetition by
+ * {@link StatementMonitor} and can be observed by tests. Kept apart
+ * from the web configuration so repository tests can import it on its own.
+ */
+@Configuration
+public class JdbcInspectionConfig {
+
+    /**
+     * Only the bean named dataSource is wrapped: with replica routing that is
+     * the routing proxy, and the primary and replica pools behind it stay plain
+     * Hikari pools.
+     */
+    @Bean
+    static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<StatementMonitor> statementMonitor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new InstrumentedDataSource(dataSource, statementMonitor);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    StatementMonitor statementMonitor(
+            @Value("${app.jdbc.slow-statement-threshold:500ms}") Duration slowThreshold,
+            @Value("${app.jdbc.repeated-statement-threshold:5}") int repeatThreshold,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new StatementMonitor(slowThreshold, repeatThreshold,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
@@ -0,0 +1,282 @@
+package com.project.order_management_system.config;
+
+import com.project.order_management_system.entity.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk loads a synthetic production-sized dataset with PostgreSQL COPY.
+ * Opt-in only, e.g.
+ * <pre>
+ * ./mvnw spring-boot:run -Dspring-boot.run.arguments="--app.seed.enabled=true --app.seed.users=1000000"
+ * </pre>
+ * Rows are appended after the current max ids, existing data is never touched.
+ * Run the analytics backfill afterwards to build the sales rollups.
+ */
+@Component
+@ConditionalOnProperty(name = "app.seed.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class LargeDatasetSeeder implements CommandLineRunner {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String[] CATEGORIES = {
+            "Electronics", "Fashion", "Home", "Books", "Sports", "Beauty", "Toys", "Grocery", "Automotive", "Garden" };
+    private static final String SEED_PASSWORD = "Seed@1234";
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${app.seed.users:10000}")
+    private int users;
+
+    @Value("${app.seed.products:5000}")
+    private int products;
+
+    // Mean of the exponential orders-per-user distribution
+    @Value("${app.seed.orders-per-user:5}")
+    private double ordersPerUser;
+
+    @Value("${app.seed.max-items-per-order:5}")
+    private int maxItemsPerOrder;
+
+    // Zipf exponent for product popularity; 0 is uniform, ~1 gives a few very hot products
+    @Value("${app.seed.product-skew:1.0}")
+    private double productSkew;
+
+    @Value("${app.seed.history-days:365}")
+    private int historyDays;
+
+    @Value("${app.seed.batch-size:50000}")
+    private int batchSize;
+
+    @Value("${app.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${app.seed.exit-when-done:true}")
+    private boolean exitWhenDone;
+
+    @Override
+    public void run(String... args) throws Exception {
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        long started = System.nanoTime();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+
+            long firstUserId = maxId(connection, "users") + 1;
+            long firstProductId = maxId(connection, "products") + 1;
+            long firstOrderId = maxId(connection, "orders") + 1;
+            long firstItemId = maxId(connection, "order_items") + 1;
+
+            seedUsers(connection, copy, firstUserId);
+            long[] priceCents = seedProducts(connection, copy, firstProductId, random);
+            long[] orderAndItemCount = seedOrders(connection, copy, random,
+                    firstUserId, firstProductId, firstOrderId, firstItemId, priceCents);
+
+            double seconds = (System.nanoTime() - started) / 1e9;
+            long rows = users + products + orderAndItemCount[0] + orderAndItemCount[1];
+            log.info("Seeded {} users, {} products, {} orders, {} order items in {}s ({} rows/s)",
+                    users, products, orderAndItemCount[0], orderAndItemCount[1],
+                    String.format("%.1f", seconds), Math.round(rows / seconds));
+        }
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private void seedUsers(Connection connection, CopyManager copy, long firstId) throws SQLException, IOException {
+        String password = passwordEncoder.encode(SEED_PASSWORD);
+        String now = LocalDateTime.now().format(TIMESTAMP);
+        String sql = "COPY users (id, name, email, password, phone, address, role, created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+
+        StringBuilder buffer = new StringBuilder();
+        int pending = 0;
+        for (int i = 0; i < users; i++) {
+            long id = firstId + i;
+            buffer.append(id).append(",Seed User ").append(id)
+                    .append(",seed-user-").append(id).append("@example.com,")
+                    .append(password).append(',')
+                    .append(9_000_000_000L + id % 1_000_000_000L)
+                    .append(",").append(id).append(" Seed Street,USER,")
+                    .append(now).append(',').append(now).append('\n');
+            if (++pending == batchSize) {
+                flush(connection, copy, "users", sql, buffer);
+                pending = 0;
+            }
+        }
+        flush(connection, copy, "users", sql, buffer);
+        log.info("Seeded {} users", users);
+    }
+
+    private long[] seedProducts(Connection connection, CopyManager copy, long firstId, SplittableRandom random)
+            throws SQLException, IOException {
+        String sql = "COPY products (id, name, description, price, stock, active, category) FROM STDIN WITH (FORMAT csv)";
+        long[] priceCents = new long[products];
+
+        StringBuilder buffer = new StringBuilder();
+        int pending = 0;
+        for (int i = 0; i < products; i++) {
+            long id = firstId + i;
+            priceCents[i] = 199 + random.nextLong(250_000);
+            buffer.append(id).append(",Seed Product ").append(id)
+                    .append(",Synthetic product ").append(id).append(',')
+                    .append(cents(priceCents[i])).append(',')
+                    .append(random.nextInt(10_000)).append(",true,")
+                    .append(CATEGORIES[i % CATEGORIES.length]).append('\n');
+            if (++pending == batchSize) {
+                flush(connection, copy, "products", sql, buffer);
+                pending = 0;
+            }
+        }
+        flush(connection, copy, "products", sql, buffer);
+        log.info("Seeded {} products", products);
+        return priceCents;
+    }
+
+    /**
+     * Orders and their items are buffered together and flushed orders first,
+     * so the order_items foreign key is always satisfied.
+     */
+    private long[] seedOrders(Connection connection, CopyManager copy, SplittableRandom random,
+                              long firstUserId, long firstProductId, long firstOrderId, long firstItemId,
+                              long[] priceCents) throws SQLException, IOException {
+        String orderSql = "COPY orders (id, order_number, user_id, total_amount, status, shipping_address, " +
+                "created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+        String itemSql = "COPY order_items (id, order_id, product_id, quantity, price, subtotal) FROM STDIN WITH (FORMAT csv)";
+
+        double[] popularity = zipfCdf(products, productSkew);
+        OrderStatus[] statuses = OrderStatus.values();
+        LocalDateTime now = LocalDateTime.now();
+
+        StringBuilder orders = new StringBuilder();
+        StringBuilder items = new StringBuilder();
+        long orderId = firstOrderId;
+        long itemId = firstItemId;
+        int pending = 0;
+
+        for (int u = 0; u < users; u++) {
+            long userId = firstUserId + u;
+            int orderCount = (int) Math.round(-ordersPerUser * Math.log(1 - random.nextDouble()));
+
+            for (int o = 0; o < orderCount; o++) {
+                LocalDateTime createdAt = now.minusSeconds(random.nextLong(historyDays * 86_400L));
+                String created = createdAt.format(TIMESTAMP);
+                int lines = 1 + random.nextInt(maxItemsPerOrder);
+                long totalCents = 0;
+
+                for (int l = 0; l < lines; l++) {
+                    int product = pick(popularity, random.nextDouble());
+                    int quantity = 1 + random.nextInt(3);
+                    long subtotal = priceCents[product] * quantity;
+                    totalCents += subtotal;
+                    items.append(itemId++).append(',').append(orderId).append(',')
+                            .append(firstProductId + product).append(',').append(quantity).append(',')
+                            .append(cents(priceCents[product])).append(',').append(cents(subtotal)).append('\n');
+                }
+
+                // Older orders are mostly closed, recent ones spread over the open statuses
+                OrderStatus status = createdAt.isBefore(now.minusDays(14))
+                        ? (random.nextInt(10) == 0 ? OrderStatus.CANCELLED : OrderStatus.DELIVERED)
+                        : statuses[random.nextInt(statuses.length)];
+
+                orders.append(orderId).append(",SEED-").append(orderId).append(',')
+                        .append(userId).append(',').append(cents(totalCents)).append(',')
+                        .append(status.name()).append(",Seed shipping address ").append(userId).append(',')
+                        .append(created).append(',').append(created).append('\n');
+                orderId++;
+
+                if (++pending == batchSize) {
+                    flush(connection, copy, "orders", orderSql, orders);
+                    flush(connection, copy, "order_items", itemSql, items);
+                    pending = 0;
+                    log.info("Seeded {} orders so far", orderId - firstOrderId);
+                }
+            }
+        }
+        flush(connection, copy, "orders", orderSql, orders);
+        flush(connection, copy, "order_items", itemSql, items);
+        return new long[] { orderId - firstOrderId, itemId - firstItemId };
+    }
+
+    /**
+     * Copies and commits one batch. The table's sequence moves with every
+     * batch, so a run that fails halfway leaves no ids later inserts would
+     * collide with.
+     */
+    private void flush(Connection connection, CopyManager copy, String table, String sql, StringBuilder buffer)
+            throws SQLException, IOException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        copy.copyIn(sql, new StringReader(buffer.toString()));
+        resetSequence(connection, table);
+        connection.commit();
+        buffer.setLength(0);
+    }
+
+    private long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    // Explicit ids bypass the identity sequence, move it past the inserted rows
+    private void resetSequence(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), " +
+                    "(SELECT COALESCE(MAX(id), 1) FROM " + table + "))");
+        }
+    }
+
+    private static double[] zipfCdf(int n, double skew) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, skew);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int pick(double[] cdf, double r) {
+        int index = Arrays.binarySearch(cdf, r);
+        index = index >= 0 ? index : -index - 1;
+        return Math.min(index, cdf.length - 1);
+    }
+
+    // Formats non-negative minor units as a decimal without going through BigDecimal
+    private static String cents(long cents) {
+        long fraction = cents % 100;
+        return (cents / 100) + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
@@ -0,0 +1,132 @@
+package com.project.order_management_system.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records lookup latency and hit/miss counts for every read of the wrapped cache.
+ * Writes and evictions are passed straight through; clearing the whole cache
+ * also publishes a {@link CacheClearedEvent}.
+ */
+class MeteredCache implements Cache {
+
+    private final Cache delegate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Timer readTimer;
+    private final Counter hits;
+    private final Counter misses;
+
+    MeteredCache(Cache delegate, MeterRegistry registry, ApplicationEventPublisher eventPublisher) {
+        this.delegate = delegate;
+        this.eventPublisher = eventPublisher;
+        String name = delegate.getName();
+        this.readTimer = Timer.builder("cache.read.duration")
+                .description("Latency of cache lookups")
+                .tag("cache", name)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .register(registry);
+        this.hits = Counter.builder("cache.gets")
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(registry);
+        this.misses = Counter.builder("cache.gets")
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        long start = System.nanoTime();
+        ValueWrapper value = delegate.get(key);
+        record(start, value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        long start = System.nanoTime();
+        T value = delegate.get(key, type);
+        record(start, value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] loaded = new boolean[1];
+        long start = System.nanoTime();
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        record(start, !loaded[0]);
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        eventPublisher.publishEvent(new CacheClearedEvent(getName()));
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        eventPublisher.publishEvent(new CacheClearedEvent(getName()));
+        return invalidated;
+    }
+
+    private void record(long startNanos, boolean hit) {
+        readTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        (hit ? hits : misses).increment();
+    }
+}
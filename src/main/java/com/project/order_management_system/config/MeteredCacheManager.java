@@ -0,0 +1,45 @@
+package com.project.order_management_system.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps every cache of the delegate manager in a {@link MeteredCache}.
+ */
+class MeteredCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final MeterRegistry registry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    MeteredCacheManager(CacheManager delegate, MeterRegistry registry, ApplicationEventPublisher eventPublisher) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new MeteredCache(target, registry, eventPublisher));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.order_management_system.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+
+import java.time.Duration;
+
+@Configuration
+public class OrderEventStreamConfig {
+
+    /**
+     * Reads the order event stream (see OrderOutboxService). Blocking reads run
+     * on dedicated connections, so the shared Lettuce connection stays free.
+     * Consumers register their subscriptions and start the container themselves.
+     */
+    @Bean
+    public StreamMessageListenerContainer<String, MapRecord<String, String, String>> orderEventListenerContainer(
+            RedisConnectionFactory connectionFactory) {
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(Duration.ofSeconds(2))
+                        .batchSize(100)
+                        .build();
+        return StreamMessageListenerContainer.create(connectionFactory, options);
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.order_management_system.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-your-writes on top of replica routing: a request that changes data, and
+ * every request of the same user for {@code window} afterwards, reads from the
+ * primary, so users never see replicas lag behind their own changes. The
+ * window is kept per node; with several nodes behind a non-sticky load
+ * balancer, keep it above the replicas' usual lag.
+ */
+class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final Duration window;
+    private final Map<String, Long> primaryUntil = new ConcurrentHashMap<>();
+
+    ReadYourWritesInterceptor(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String user = currentUser();
+        Long until = user != null ? primaryUntil.get(user) : null;
+        if (isWrite(request) || (until != null && until > System.currentTimeMillis())) {
+            ReplicaRoutingDataSource.pinToPrimary();
+        }
+        return true;
+    }
+
+    /**
+     * Async requests (the SSE stream) release this thread without afterCompletion
+     * running on it; the pin must not stay behind for the next request it serves.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        ReplicaRoutingDataSource.unpin();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        ReplicaRoutingDataSource.unpin();
+        String user = currentUser();
+        if (user != null && isWrite(request)) {
+            primaryUntil.put(user, System.currentTimeMillis() + window.toMillis());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.read-your-writes-window:10s}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        primaryUntil.values().removeIf(until -> until <= now);
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        return WRITE_METHODS.contains(request.getMethod());
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,72 @@
+package com.project.order_management_system.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-cache Redis settings, e.g.
+ * <pre>
+ * app.cache.redis.caches.userOrders.ttl=10m
+ * app.cache.redis.caches.userOrders.max-entry-size=512KB
+ * </pre>
+ * Caches without an entry, and unset fields of an entry, fall back to {@link #defaults}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache.redis")
+public class RedisCacheProperties {
+
+    private Spec defaults = new Spec(Duration.ofMinutes(60), 0.1, DataSize.ofMegabytes(1), "", DataSize.ofKilobytes(4));
+
+    private Map<String, Spec> caches = new LinkedHashMap<>(Map.of(
+            // Never compressed: OrderHistoryCache reads these entries as plain JSON (see RedisConfig)
+            "orders", new Spec(Duration.ofMinutes(30), null, DataSize.ofKilobytes(256), null, DataSize.ofBytes(0)),
+            "userOrders", new Spec(Duration.ofMinutes(10), null, DataSize.ofKilobytes(512), null, null),
+            "products", new Spec(Duration.ofMinutes(60), null, DataSize.ofMegabytes(2), null, null)));
+
+    // How often the memory footprint gauges re-scan the cache keys
+    private Duration footprintSampleInterval = Duration.ofMinutes(1);
+
+    // Upper bound of keys inspected per cache and sample
+    private int footprintMaxKeys = 100_000;
+
+    public Spec spec(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        if (spec == null) {
+            return defaults;
+        }
+        return new Spec(
+                spec.getTtl() != null ? spec.getTtl() : defaults.getTtl(),
+                spec.getTtlJitter() != null ? spec.getTtlJitter() : defaults.getTtlJitter(),
+                spec.getMaxEntrySize() != null ? spec.getMaxEntrySize() : defaults.getMaxEntrySize(),
+                spec.getKeyPrefix() != null ? spec.getKeyPrefix() : defaults.getKeyPrefix(),
+                spec.getCompressionThreshold() != null
+                        ? spec.getCompressionThreshold() : defaults.getCompressionThreshold());
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+
+        private Duration ttl;
+
+        // Fraction of the TTL added or removed at random so entries written together don't expire together
+        private Double ttlJitter;
+
+        // Serialized values above this size are not stored
+        private DataSize maxEntrySize;
+
+        // Prepended to the default "cacheName::" key prefix
+        private String keyPrefix;
+
+        // Serialized values of at least this size are LZ4 compressed, 0 disables compression
+        private DataSize compressionThreshold;
+    }
+}
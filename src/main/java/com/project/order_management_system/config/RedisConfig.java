@@ -2,26 +2,41 @@ package com.project.order_management_system.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(RedisCacheProperties.class)
 public class RedisConfig {
 
+        private static final Set<String> UNCOMPRESSED_CACHES = Set.of("orders");
+
         @Value("${spring.data.redis.host}")
         private String redisHost;
 
@@ -31,8 +46,39 @@ public class RedisConfig {
         @Value("${spring.data.redis.password}")
         private String redisPassword;
 
+        /**
+         * Uses the Boot managed ClientResources so Lettuce command latency
+         * metrics are published to Micrometer.
+         */
         @Bean
-        public LettuceConnectionFactory redisConnectionFactory() {
+        public LettuceConnectionFactory redisConnectionFactory(ClientResources clientResources) {
+                LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                                .clientResources(clientResources)
+                                .build();
+
+                return new LettuceConnectionFactory(standaloneConfiguration(), clientConfig);
+        }
+
+        /**
+         * Own connection for the shared rate limiter, which runs on every request:
+         * a command that takes longer than app.rate-limit.redis-timeout fails and
+         * the request falls back to the node's buckets instead of waiting out
+         * Lettuce's 60 second default. Not a default candidate, so everything else
+         * keeps using redisConnectionFactory.
+         */
+        @Bean(defaultCandidate = false)
+        public LettuceConnectionFactory rateLimitConnectionFactory(
+                        ClientResources clientResources,
+                        @Value("${app.rate-limit.redis-timeout:50ms}") Duration commandTimeout) {
+                LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                                .clientResources(clientResources)
+                                .commandTimeout(commandTimeout)
+                                .build();
+
+                return new LettuceConnectionFactory(standaloneConfiguration(), clientConfig);
+        }
+
+        private RedisStandaloneConfiguration standaloneConfiguration() {
                 RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
                 config.setHostName(redisHost);
                 config.setPort(redisPort);
@@ -40,11 +86,11 @@ public class RedisConfig {
                 if (redisPassword != null && !redisPassword.isEmpty()) {
                         config.setPassword(redisPassword);
                 }
-
-                return new LettuceConnectionFactory(config);
+                return config;
         }
 
-        private ObjectMapper createObjectMapper() {
+        // Package-private so the serialization benchmark uses the exact cache mapper
+        static ObjectMapper createObjectMapper() {
                 ObjectMapper mapper = new ObjectMapper();
                 mapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
                 mapper.disable(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -66,7 +112,8 @@ public class RedisConfig {
 
                 // Use JSON serializer for values with custom ObjectMapper
                 ObjectMapper mapper = createObjectMapper();
-                GenericJackson2JsonRedisSerializer jsonRedisSerializer = new GenericJackson2JsonRedisSerializer(mapper);
+                RedisSerializer<Object> jsonRedisSerializer =
+                                new TimedRedisSerializer(new GenericJackson2JsonRedisSerializer(mapper));
                 template.setValueSerializer(jsonRedisSerializer);
                 template.setHashValueSerializer(jsonRedisSerializer);
 
@@ -75,21 +122,69 @@ public class RedisConfig {
         }
 
         @Bean
-        public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+        public CacheManager cacheManager(RedisConnectionFactory connectionFactory, RedisCacheProperties cacheProperties,
+                                         MeterRegistry meterRegistry, ApplicationEventPublisher eventPublisher) {
                 ObjectMapper mapper = createObjectMapper();
                 GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(mapper);
 
-                RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofMinutes(60)) // Increased TTL
+                RedisCacheConfiguration base = RedisCacheConfiguration.defaultCacheConfig()
                                 .disableCachingNullValues()
                                 .serializeKeysWith(RedisSerializationContext.SerializationPair
-                                                .fromSerializer(new StringRedisSerializer()))
-                                .serializeValuesWith(
-                                                RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+                                                .fromSerializer(new StringRedisSerializer()));
 
-                return RedisCacheManager.builder(connectionFactory)
-                                .cacheDefaults(config)
+                // TTL, jitter, key prefix and compression per cache, unlisted caches use the defaults
+                Map<String, RedisCacheConfiguration> perCache = new HashMap<>();
+                for (String name : cacheProperties.getCaches().keySet()) {
+                        perCache.put(name, configure(base, cacheProperties.spec(name), name, serializer, meterRegistry));
+                }
+
+                // Values above the cache's max entry size are skipped instead of stored
+                RedisCacheWriter cacheWriter = new BudgetedRedisCacheWriter(
+                                RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory),
+                                cacheProperties, meterRegistry);
+
+                RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
+                                .cacheDefaults(configure(base, cacheProperties.getDefaults(), "default",
+                                                serializer, meterRegistry))
+                                .withInitialCacheConfigurations(perCache)
                                 .transactionAware()
                                 .build();
+                redisCacheManager.afterPropertiesSet();
+
+                // Per-cache read latency and hit/miss counters, CacheClearedEvent on clear
+                return new MeteredCacheManager(redisCacheManager, meterRegistry, eventPublisher);
+        }
+
+        private static RedisCacheConfiguration configure(RedisCacheConfiguration base, RedisCacheProperties.Spec spec,
+                                                         String cacheName, RedisSerializer<Object> serializer,
+                                                         MeterRegistry meterRegistry) {
+                // Compression wraps the JSON serializer, so the max entry size applies to the stored bytes.
+                // The "orders" entries are also read with an MGET through the plain JSON RedisTemplate
+                // (OrderHistoryCache), so they stay uncompressed whatever is configured.
+                long threshold = UNCOMPRESSED_CACHES.contains(cacheName) ? 0 : spec.getCompressionThreshold().toBytes();
+                RedisSerializer<Object> valueSerializer = threshold > 0
+                                ? new CompressingRedisSerializer(serializer, (int) threshold, cacheName, meterRegistry)
+                                : serializer;
+                return base
+                                .entryTtl(ttlFunction(spec.getTtl(), spec.getTtlJitter()))
+                                .computePrefixWith(name -> keyPrefix(spec, name))
+                                .serializeValuesWith(RedisSerializationContext.SerializationPair
+                                                .fromSerializer(new TimedRedisSerializer(valueSerializer)));
+        }
+
+        public static String keyPrefix(RedisCacheProperties.Spec spec, String cacheName) {
+                return spec.getKeyPrefix() + cacheName + "::";
+        }
+
+        /**
+         * Spreads expiry by +/- jitter * ttl so entries written together, e.g. by
+         * the warm-up, do not all expire in the same second.
+         */
+        static RedisCacheWriter.TtlFunction ttlFunction(Duration ttl, double jitter) {
+                long spread = (long) (ttl.toMillis() * jitter);
+                if (spread <= 0) {
+                        return RedisCacheWriter.TtlFunction.just(ttl);
+                }
+                return (key, value) -> ttl.plusMillis(ThreadLocalRandom.current().nextLong(-spread, spread + 1));
         }
 }
@@ -0,0 +1,160 @@
+package com.project.order_management_system.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out replica connections to read-only transactions and primary
+ * connections to everything else. Replicas are checked periodically; one that
+ * is down or lags more than {@code maxLag} is skipped until it recovers, and
+ * when no replica qualifies reads fall back to the primary. Requests pinned
+ * with {@link #pinToPrimary()} (see ReadYourWritesInterceptor) always use the
+ * primary.
+ * <p>
+ * Must sit behind a LazyConnectionDataSourceProxy: the read-only flag of a
+ * transaction is only known once the first statement runs, not when the
+ * transaction manager asks for a connection.
+ */
+@Slf4j
+class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    // Seconds since the last replayed transaction; 0 when the replica has replayed all it received
+    private static final String LAG_SQL =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+    private final Counter fallbackReads;
+
+    ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, Duration maxLag,
+                             MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLag = maxLag;
+
+        String description = "Read-only transactions by the database they were routed to";
+        this.primaryReads = Counter.builder("datasource.reads").tag("target", "primary")
+                .description(description).register(meterRegistry);
+        this.replicaReads = Counter.builder("datasource.reads").tag("target", "replica")
+                .description(description).register(meterRegistry);
+        this.fallbackReads = Counter.builder("datasource.reads").tag("target", "fallback")
+                .description(description).register(meterRegistry);
+        for (Replica replica : this.replicas) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("replica", replica.pool.getPoolName())
+                    .description("Replication lag in seconds")
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", replica.pool.getPoolName())
+                    .description("1 while the replica receives reads")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Route every transaction of the current thread to the primary until {@link #unpin()}.
+     */
+    static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary.getConnection();
+        }
+        if (PINNED_TO_PRIMARY.get() != null) {
+            primaryReads.increment();
+            return primary.getConnection();
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.pool.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                // Stays out of rotation until the next health check finds it back
+                replica.healthy = false;
+                log.warn("Replica {} unavailable, taking it out of rotation: {}",
+                        replica.pool.getPoolName(), e.getMessage());
+            }
+        }
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Per-call credentials are the primary pool's business, as they were before routing
+        return primary.getConnection(username, password);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval:5s}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            try (Connection connection = replica.pool.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_SQL)) {
+                resultSet.next();
+                replica.lagSeconds = resultSet.getDouble(1);
+                replica.healthy = replica.lagSeconds <= maxLag.toMillis() / 1000.0;
+            } catch (SQLException e) {
+                replica.healthy = false;
+            }
+            if (wasHealthy != replica.healthy) {
+                log.warn("Replica {} {} (lag {}s)", replica.pool.getPoolName(),
+                        replica.healthy ? "back in rotation" : "out of rotation", replica.lagSeconds);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource pool;
+        private volatile boolean healthy;
+        private volatile double lagSeconds;
+
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.project.order_management_system.config;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Where the time of the current request went: JDBC statements, Redis calls
+ * and (de)serialization. Started and ended by {@link RequestCostFilter}; the
+ * static recorders are no-ops outside a request, e.g. in scheduled jobs.
+ * Redis time includes the deserialization of cached values, which is also
+ * reported on its own.
+ * <p>
+ * One instance per request thread, so the counters are plain fields.
+ */
+public final class RequestCost {
+
+    private static final ThreadLocal<RequestCost> CURRENT = new ThreadLocal<>();
+
+    private int jdbcStatements;
+    private long jdbcNanos;
+    private int redisCalls;
+    private int redisHits;
+    private long redisNanos;
+    private long serializationNanos;
+    private Map<String, Integer> statementCounts;
+
+    static RequestCost start() {
+        RequestCost cost = new RequestCost();
+        CURRENT.set(cost);
+        return cost;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static RequestCost current() {
+        return CURRENT.get();
+    }
+
+    public static void jdbc(long nanos) {
+        RequestCost cost = CURRENT.get();
+        if (cost != null) {
+            cost.jdbcStatements++;
+            cost.jdbcNanos += nanos;
+        }
+    }
+
+    /**
+     * Mean time of the statements the current request executed so far, or -1
+     * when it executed none or runs outside a request.
+     */
+    public static long meanStatementNanos() {
+        RequestCost cost = CURRENT.get();
+        return cost != null && cost.jdbcStatements > 0 ? cost.jdbcNanos / cost.jdbcStatements : -1;
+    }
+
+    /**
+     * Executions of {@code sql} so far in the current request, this one
+     * included; 0 outside a request.
+     */
+    static int countStatement(String sql) {
+        RequestCost cost = CURRENT.get();
+        if (cost == null) {
+            return 0;
+        }
+        if (cost.statementCounts == null) {
+            cost.statementCounts = new HashMap<>();
+        }
+        return cost.statementCounts.merge(sql, 1, Integer::sum);
+    }
+
+    public static void redisRead(long nanos, int hits) {
+        RequestCost cost = CURRENT.get();
+        if (cost != null) {
+            cost.redisCalls++;
+            cost.redisHits += hits;
+            cost.redisNanos += nanos;
+        }
+    }
+
+    public static void redisWrite(long nanos) {
+        redisRead(nanos, 0);
+    }
+
+    public static void serialization(long nanos) {
+        RequestCost cost = CURRENT.get();
+        if (cost != null) {
+            cost.serializationNanos += nanos;
+        }
+    }
+
+    int getJdbcStatements() {
+        return jdbcStatements;
+    }
+
+    int getRedisCalls() {
+        return redisCalls;
+    }
+
+    int getRedisHits() {
+        return redisHits;
+    }
+
+    double getJdbcMillis() {
+        return jdbcNanos / 1e6;
+    }
+
+    double getRedisMillis() {
+        return redisNanos / 1e6;
+    }
+
+    double getSerializationMillis() {
+        return serializationNanos / 1e6;
+    }
+
+    /**
+     * Server-Timing header value, shown per request in the browser's developer tools.
+     */
+    String toServerTiming() {
+        return String.format(Locale.ROOT,
+                "db;dur=%.2f;desc=\"%d statements\", redis;dur=%.2f;desc=\"%d calls, %d hits\", ser;dur=%.2f",
+                getJdbcMillis(), jdbcStatements, getRedisMillis(), redisCalls, redisHits, getSerializationMillis());
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.order_management_system.config;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Collects the {@link RequestCost} of each request and attaches it to the
+ * request's server span when tracing is on. Runs inside Spring Boot's
+ * observation filter, so that span is still open here.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class RequestCostFilter extends OncePerRequestFilter {
+
+    private final ObjectProvider<Tracer> tracer;
+
+    public RequestCostFilter(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestCost cost = RequestCost.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestCost.end();
+            tag(cost);
+        }
+    }
+
+    private void tag(RequestCost cost) {
+        Tracer current = tracer.getIfAvailable();
+        Span span = current != null ? current.currentSpan() : null;
+        if (span == null) {
+            return;
+        }
+        span.tag("db.statements", String.valueOf(cost.getJdbcStatements()));
+        span.tag("db.duration_ms", String.valueOf(cost.getJdbcMillis()));
+        span.tag("redis.calls", String.valueOf(cost.getRedisCalls()));
+        span.tag("redis.hits", String.valueOf(cost.getRedisHits()));
+        span.tag("redis.duration_ms", String.valueOf(cost.getRedisMillis()));
+        span.tag("serialization.duration_ms", String.valueOf(cost.getSerializationMillis()));
+    }
+}
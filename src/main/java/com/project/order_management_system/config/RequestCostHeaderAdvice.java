@@ -0,0 +1,39 @@
+package com.project.order_management_system.config;
+
+import com.project.order_management_system.controller.OrderController;
+import com.project.order_management_system.controller.ProductController;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Debug aid: summarizes the request's {@link RequestCost} in a Server-Timing
+ * header on order and product responses. Added just before the body is
+ * written, so the JSON serialization of the response itself only shows up in
+ * the trace span.
+ */
+@ControllerAdvice(assignableTypes = { OrderController.class, ProductController.class })
+@ConditionalOnProperty(name = "app.request-cost.header", havingValue = "true")
+public class RequestCostHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestCost cost = RequestCost.current();
+        if (cost != null) {
+            response.getHeaders().add("Server-Timing", cost.toServerTiming());
+        }
+        return body;
+    }
+}
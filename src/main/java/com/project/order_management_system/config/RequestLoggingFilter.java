@@ -0,0 +1,64 @@
+package com.project.order_management_system.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tags every log line of a request with its request id (from X-Request-Id, or
+ * generated) and decides once per request whether its INFO/DEBUG lines are
+ * kept: {@link SampledLogTurboFilter} drops them for requests outside the
+ * {@code app.logging.sample-rate} sample. Warnings and errors are always logged.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    static final String REQUEST_ID = "requestId";
+    static final String SAMPLED = "sampled";
+
+    private static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    private final double sampleRate;
+
+    public RequestLoggingFilter(@Value("${app.logging.sample-rate:1.0}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (!StringUtils.hasText(requestId) || requestId.length() > 64) {
+            requestId = UUID.randomUUID().toString();
+        }
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+
+        MDC.put(REQUEST_ID, requestId);
+        MDC.put(SAMPLED, String.valueOf(isSampled()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(REQUEST_ID);
+            MDC.remove(SAMPLED);
+        }
+    }
+
+    boolean isSampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
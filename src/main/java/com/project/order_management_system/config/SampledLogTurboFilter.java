@@ -0,0 +1,27 @@
+package com.project.order_management_system.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Drops INFO and below for requests that {@link RequestLoggingFilter} left out
+ * of the log sample. Runs before a logging event is created, so dropped lines
+ * cost neither formatting nor a slot in the async appender's queue. Lines
+ * logged outside a request (schedulers, startup) are unaffected. Installed by
+ * logback-spring.xml in the prod profile.
+ */
+public class SampledLogTurboFilter extends TurboFilter {
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        return "false".equals(MDC.get(RequestLoggingFilter.SAMPLED)) ? FilterReply.DENY : FilterReply.NEUTRAL;
+    }
+}
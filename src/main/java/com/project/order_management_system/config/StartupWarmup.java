@@ -0,0 +1,134 @@
+package com.project.order_management_system.config;
+
+import com.project.order_management_system.security.JwtTokenProvider;
+import com.project.order_management_system.service.CacheWarmupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Warms the JWT parser, the Redis connection and the Hikari pool in parallel,
+ * then preloads the catalog caches. Application runners complete before Boot publishes ReadinessState.ACCEPTING_TRAFFIC,
+ * so the node only reports ready once the first requests no longer pay for
+ * connection setup and class loading.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class StartupWarmup implements ApplicationRunner {
+
+    private final JwtTokenProvider tokenProvider;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final DataSource dataSource;
+    private final CacheWarmupService cacheWarmupService;
+
+    @Value("${app.startup.warmup.enabled:true}")
+    private boolean enabled;
+
+    // Connections opened concurrently so the pool is filled before traffic arrives
+    @Value("${app.startup.warmup.db-connections:10}")
+    private int dbConnections;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            CompletableFuture.allOf(
+                    CompletableFuture.runAsync(() -> timed("JWT", this::warmJwt), executor),
+                    CompletableFuture.runAsync(() -> timed("Redis", this::warmRedis), executor),
+                    CompletableFuture.runAsync(() -> timed("Hikari", this::warmDatabase), executor)
+            ).join();
+        } finally {
+            executor.shutdown();
+        }
+        timed("catalog cache", cacheWarmupService::warmCatalog);
+        log.info("Startup warm-up finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportReady() {
+        log.info("Ready to serve traffic {} ms after JVM start", ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    private void warmJwt() {
+        String token = tokenProvider.generateToken(User.withUsername("warmup@localhost")
+                .password("")
+                .authorities("ROLE_USER")
+                .build(), "USER");
+        tokenProvider.extractUsername(token);
+    }
+
+    private void warmRedis() {
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.ping();
+        }
+    }
+
+    private void warmDatabase() {
+        List<CompletableFuture<Void>> opened = new ArrayList<>();
+        List<Connection> held = new ArrayList<>();
+        for (int i = 0; i < dbConnections; i++) {
+            opened.add(CompletableFuture.runAsync(() -> {
+                try {
+                    Connection connection = dataSource.getConnection();
+                    connection.isValid(2);
+                    synchronized (held) {
+                        held.add(connection);
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        try {
+            CompletableFuture.allOf(opened.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            // Return everything to the pool only after all were open at once
+            synchronized (held) {
+                for (Connection connection : held) {
+                    try {
+                        connection.close();
+                    } catch (Exception ignored) {
+                        // already broken, the pool will evict it
+                    }
+                }
+            }
+        }
+    }
+
+    private void timed(String name, Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+            log.info("Warmed {} in {} ms", name, (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            // A failed warm-up must not stop the node, the first request will retry
+            log.warn("Warm-up of {} failed: {}", name, e.getMessage());
+        }
+    }
+}
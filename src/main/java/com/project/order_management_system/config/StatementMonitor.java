@@ -0,0 +1,95 @@
+package com.project.order_management_system.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Looks at every statement executed through the application's DataSource.
+ * Statements slower than the threshold, and the same SQL run over and over
+ * within one request (the signature of an N+1: one query per loaded row),
+ * are logged with the application frames that issued them and counted in
+ * jdbc.statements.slow and jdbc.statements.repeated. A repeated statement is
+ * reported once per request, when it reaches the threshold. Only queries count
+ * as repeated: an insert per order item or an update per order in a batch is
+ * expected.
+ */
+@Slf4j
+class StatementMonitor {
+
+    private static final String APP_PACKAGE = "com.project.order_management_system.";
+    private static final int STACK_FRAMES = 8;
+
+    // Statements of the current thread are also handed here while a test observes them (StatementCapture)
+    private static final ThreadLocal<Consumer<String>> OBSERVER = new ThreadLocal<>();
+
+    private final long slowThresholdNanos;
+    private final int repeatThreshold;
+    private final Counter slowStatements;
+    private final Counter repeatedStatements;
+
+    StatementMonitor(Duration slowThreshold, int repeatThreshold, MeterRegistry meterRegistry) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.repeatThreshold = repeatThreshold;
+        this.slowStatements = Counter.builder("jdbc.statements.slow")
+                .description("Statements slower than app.jdbc.slow-statement-threshold")
+                .register(meterRegistry);
+        this.repeatedStatements = Counter.builder("jdbc.statements.repeated")
+                .description("Statements repeated within one request, likely N+1 queries")
+                .register(meterRegistry);
+    }
+
+    void executed(String sql, long nanos) {
+        RequestCost.jdbc(nanos);
+        Consumer<String> observer = OBSERVER.get();
+        if (observer != null) {
+            observer.accept(sql);
+        }
+
+        if (nanos >= slowThresholdNanos) {
+            slowStatements.increment();
+            log.warn("Slow statement ({} ms): {}\n{}", nanos / 1_000_000, sql, stackContext());
+        }
+        if (isQuery(sql) && RequestCost.countStatement(sql) == repeatThreshold) {
+            repeatedStatements.increment();
+            log.warn("Statement ran {} times in one request, likely N+1 (join fetch or batch load instead): {}\n{}",
+                    repeatThreshold, sql, stackContext());
+        }
+    }
+
+    /**
+     * Hand every statement the current thread executes to {@code observer};
+     * null stops observing.
+     */
+    static void observe(Consumer<String> observer) {
+        if (observer != null) {
+            OBSERVER.set(observer);
+        } else {
+            OBSERVER.remove();
+        }
+    }
+
+    private static boolean isQuery(String sql) {
+        String trimmed = sql.stripLeading();
+        return trimmed.regionMatches(true, 0, "select", 0, 6) || trimmed.regionMatches(true, 0, "with", 0, 4);
+    }
+
+    /**
+     * Application frames that led to the statement, innermost first; Spring
+     * proxies and the instrumentation itself are left out.
+     */
+    private static String stackContext() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE))
+                .filter(frame -> !frame.getClassName().contains("$$"))
+                .filter(frame -> !frame.getClassName().startsWith(InstrumentedDataSource.class.getName())
+                        && !frame.getClassName().equals(StatementMonitor.class.getName()))
+                .limit(STACK_FRAMES)
+                .map(frame -> "\tat " + frame)
+                .collect(Collectors.joining("\n")));
+    }
+}
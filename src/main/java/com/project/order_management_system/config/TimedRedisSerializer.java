@@ -0,0 +1,37 @@
+package com.project.order_management_system.config;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Reports the time spent (de)serializing Redis values to the current
+ * {@link RequestCost}.
+ */
+class TimedRedisSerializer implements RedisSerializer<Object> {
+
+    private final RedisSerializer<Object> delegate;
+
+    TimedRedisSerializer(RedisSerializer<Object> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        long start = System.nanoTime();
+        try {
+            return delegate.serialize(value);
+        } finally {
+            RequestCost.serialization(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        long start = System.nanoTime();
+        try {
+            return delegate.deserialize(bytes);
+        } finally {
+            RequestCost.serialization(System.nanoTime() - start);
+        }
+    }
+}
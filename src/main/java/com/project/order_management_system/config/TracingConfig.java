@@ -0,0 +1,51 @@
+package com.project.order_management_system.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Per-request cost accounting ({@link RequestCost}) and span export; JDBC time
+ * is reported through {@link JdbcInspectionConfig}. Spans come from Spring
+ * Boot's tracing auto-configuration (Micrometer Tracing over the OpenTelemetry
+ * SDK); with app.tracing.exporter=logging they are written as OTLP JSON through
+ * the logger of OtlpJsonLoggingSpanExporter, which logback can route to a file.
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Replaces Spring Boot's JSON converter with one that also reports the time
+     * spent writing response bodies.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                    throws IOException, HttpMessageNotWritableException {
+                long start = System.nanoTime();
+                try {
+                    super.writeInternal(object, type, outputMessage);
+                } finally {
+                    RequestCost.serialization(System.nanoTime() - start);
+                }
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.exporter", havingValue = "logging")
+    public SpanExporter loggingSpanExporter() {
+        return OtlpJsonLoggingSpanExporter.create();
+    }
+}
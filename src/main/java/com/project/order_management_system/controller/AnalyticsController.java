@@ -0,0 +1,85 @@
+package com.project.order_management_system.controller;
+
+import com.project.order_management_system.dto.BackfillStatusResponse;
+import com.project.order_management_system.dto.SalesRollupResponse;
+import com.project.order_management_system.dto.SalesSummaryResponse;
+import com.project.order_management_system.service.AnalyticsBackfillService;
+import com.project.order_management_system.service.SalesAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/analytics")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsController {
+
+    private final SalesAnalyticsService analyticsService;
+    private final AnalyticsBackfillService backfillService;
+
+    /**
+     * Overall totals and order counts by status
+     * GET /api/v1/admin/analytics/summary
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<SalesSummaryResponse> getSummary() {
+        return ResponseEntity.ok(analyticsService.getSummary());
+    }
+
+    /**
+     * Per-day units and revenue
+     * GET /api/v1/admin/analytics/daily?from=2025-01-01&to=2025-01-31
+     */
+    @GetMapping("/daily")
+    public ResponseEntity<List<SalesRollupResponse>> getDailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsService.getDailySales(from, to));
+    }
+
+    /**
+     * Best selling products by revenue
+     * GET /api/v1/admin/analytics/top-products?limit=10 (limit clamped to 1..100)
+     */
+    @GetMapping("/top-products")
+    public ResponseEntity<List<SalesRollupResponse>> getTopProducts(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(analyticsService.getTopProducts(Math.max(1, Math.min(limit, 100))));
+    }
+
+    /**
+     * Units and revenue per category
+     * GET /api/v1/admin/analytics/categories
+     */
+    @GetMapping("/categories")
+    public ResponseEntity<List<SalesRollupResponse>> getCategorySales() {
+        return ResponseEntity.ok(analyticsService.getCategorySales());
+    }
+
+    /**
+     * Rebuild all rollups from historical orders (dryRun only measures throughput)
+     * POST /api/v1/admin/analytics/backfill?dryRun=false
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<BackfillStatusResponse> startBackfill(@RequestParam(defaultValue = "false") boolean dryRun) {
+        log.info("Received analytics backfill request (dryRun={})", dryRun);
+        return new ResponseEntity<>(backfillService.start(dryRun), HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * Progress and rows/second of the current or last backfill
+     * GET /api/v1/admin/analytics/backfill
+     */
+    @GetMapping("/backfill")
+    public ResponseEntity<BackfillStatusResponse> getBackfillStatus() {
+        return ResponseEntity.ok(backfillService.getStatus());
+    }
+}
@@ -1,15 +1,22 @@
 package com.project.order_management_system.controller;
 
+import com.project.order_management_system.dto.BulkStatusUpdateRequest;
+import com.project.order_management_system.dto.BulkStatusUpdateResponse;
 import com.project.order_management_system.dto.CreateOrderRequest;
 import com.project.order_management_system.dto.OrderResponse;
 import com.project.order_management_system.entity.OrderStatus;
+import com.project.order_management_system.service.OrderEventBroadcaster;
 import com.project.order_management_system.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -21,6 +28,7 @@ import java.util.Map;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderEventBroadcaster orderEventBroadcaster;
 
     /**
      * Create a new order
@@ -66,6 +74,19 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * Stream status changes of the caller's orders, or of all orders for admins (Server-Sent Events)
+     * GET /api/v1/orders/stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderEvents(
+            Authentication authentication,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        return orderEventBroadcaster.subscribe(authentication.getName(), admin, lastEventId);
+    }
+
     /**
      * Get all orders (Admin)
      * GET /api/v1/orders
@@ -103,6 +124,25 @@ public class OrderController {
         }
     }
 
+    /**
+     * Update the status of many orders at once, with a per-order outcome (Admin)
+     * PUT /api/v1/orders/status
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/status")
+    public ResponseEntity<BulkStatusUpdateResponse> bulkUpdateStatus(
+            @Valid @RequestBody BulkStatusUpdateRequest request) {
+
+        log.info("Received bulk status update request for {} orders", request.getOrderIds().size());
+
+        try {
+            return ResponseEntity.ok(orderService.bulkUpdateStatus(request));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid bulk status update: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Cancel an order
      * DELETE /api/v1/orders/{id}
@@ -1,11 +1,13 @@
 package com.project.order_management_system.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+@Lazy // Diagnostics only, created on first request instead of at startup
 @RestController
 @RequestMapping("/api/test")
 public class TestController {
@@ -0,0 +1,56 @@
+package com.project.order_management_system.controller;
+
+import com.project.order_management_system.dto.WebhookSubscriptionRequest;
+import com.project.order_management_system.dto.WebhookSubscriptionResponse;
+import com.project.order_management_system.service.WebhookDispatcher;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/admin/webhooks")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+@Slf4j
+public class WebhookController {
+
+    private final WebhookDispatcher webhookDispatcher;
+
+    /**
+     * Register a partner callback for order events; the response carries the signing secret
+     * POST /api/v1/admin/webhooks
+     */
+    @PostMapping
+    public ResponseEntity<WebhookSubscriptionResponse> createSubscription(
+            @Valid @RequestBody WebhookSubscriptionRequest request) {
+        log.info("Registering webhook '{}' for {}", request.getName(), request.getUrl());
+        return new ResponseEntity<>(webhookDispatcher.create(request), HttpStatus.CREATED);
+    }
+
+    /**
+     * List webhook subscriptions
+     * GET /api/v1/admin/webhooks
+     */
+    @GetMapping
+    public ResponseEntity<List<WebhookSubscriptionResponse>> getSubscriptions() {
+        return ResponseEntity.ok(webhookDispatcher.findAll());
+    }
+
+    /**
+     * Remove a webhook subscription
+     * DELETE /api/v1/admin/webhooks/{id}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Map<String, String>> deleteSubscription(@PathVariable Long id) {
+        log.info("Removing webhook subscription {}", id);
+        webhookDispatcher.delete(id);
+        return ResponseEntity.ok(Map.of("message", "Webhook subscription deleted"));
+    }
+}
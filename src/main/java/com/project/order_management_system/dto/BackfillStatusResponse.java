@@ -0,0 +1,28 @@
+package com.project.order_management_system.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+public class BackfillStatusResponse {
+
+    private boolean running;
+    private boolean dryRun;
+    private int totalChunks;
+    private int completedChunks;
+    private long rowsProcessed;
+    private long rowsPerSecond;
+    private int rollupsWritten;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
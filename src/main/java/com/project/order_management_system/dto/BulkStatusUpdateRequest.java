@@ -0,0 +1,26 @@
+package com.project.order_management_system.dto;
+
+import com.project.order_management_system.entity.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+
+    @NotEmpty(message = "At least one order id is required")
+    @Size(max = 1000, message = "At most 1000 orders per request")
+    private List<Long> orderIds;
+
+    @NotNull(message = "Status is required")
+    private OrderStatus status;
+}
@@ -0,0 +1,41 @@
+package com.project.order_management_system.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.project.order_management_system.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+public class BulkStatusUpdateResponse {
+
+    private OrderStatus status;
+    private int updated;
+    private int rejected;
+    private List<Result> results;
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        INVALID_TRANSITION,
+        NOT_FOUND
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Builder
+    public static class Result {
+        private Long orderId;
+        private Outcome outcome;
+        private OrderStatus previousStatus;
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.order_management_system.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.project.order_management_system.entity.OrderEventType;
+import com.project.order_management_system.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+public class OrderStatusEvent {
+
+    private Long eventId;
+    private OrderEventType type;
+    private Long orderId;
+    private String orderNumber;
+    private Long userId;
+    private OrderStatus previousStatus;
+    private OrderStatus status;
+    private BigDecimal totalAmount;
+    private String userName;
+    private String userEmail;
+    private Integer itemCount;
+    private String occurredAt;
+}
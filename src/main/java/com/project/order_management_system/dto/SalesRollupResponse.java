@@ -0,0 +1,25 @@
+package com.project.order_management_system.dto;
+
+import com.project.order_management_system.entity.RollupDimension;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesRollupResponse {
+
+    private RollupDimension dimension;
+    private String bucket;
+    private String label;
+    private Long orderCount;
+    private Long units;
+    private BigDecimal revenue;
+    private LocalDateTime updatedAt;
+}
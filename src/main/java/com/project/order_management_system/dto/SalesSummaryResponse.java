@@ -0,0 +1,22 @@
+package com.project.order_management_system.dto;
+
+import com.project.order_management_system.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesSummaryResponse {
+
+    private Long orderCount;
+    private Long units;
+    private BigDecimal revenue;
+    private Map<OrderStatus, Long> ordersByStatus;
+}
@@ -0,0 +1,25 @@
+package com.project.order_management_system.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebhookSubscriptionRequest {
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must be at most 100 characters")
+    private String name;
+
+    @NotBlank(message = "URL is required")
+    @Size(max = 1000, message = "URL must be at most 1000 characters")
+    @Pattern(regexp = "^https?://.+", message = "URL must start with http:// or https://")
+    private String url;
+}
@@ -0,0 +1,25 @@
+package com.project.order_management_system.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+public class WebhookSubscriptionResponse {
+
+    private Long id;
+    private String name;
+    private String url;
+    private boolean active;
+    // Only returned when the subscription is created
+    private String secret;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,57 @@
+package com.project.order_management_system.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Amount of money in minor units (cents) at the scale of the money columns,
+ * NUMERIC(10, 2). Line and order totals are computed on longs; the value only
+ * becomes a BigDecimal when written to the database ({@link MoneyConverter})
+ * or to JSON.
+ */
+public record Money(long cents) implements Comparable<Money>, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0);
+
+    /**
+     * Amounts with more than two decimals are rounded half up, as PostgreSQL
+     * does when storing them in NUMERIC(10, 2).
+     */
+    @JsonCreator
+    public static Money of(BigDecimal amount) {
+        return new Money(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(cents, other.cents));
+    }
+
+    public Money times(int quantity) {
+        return new Money(Math.multiplyExact(cents, quantity));
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
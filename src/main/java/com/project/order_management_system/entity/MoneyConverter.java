@@ -0,0 +1,27 @@
+package com.project.order_management_system.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+
+/**
+ * Maps {@link Money} to the NUMERIC(10, 2) money columns. Money is immutable, so
+ * Hibernate keeps the loaded instance as its dirty-checking snapshot instead of
+ * copying it through the converter.
+ */
+@Converter
+@Immutable
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return amount != null ? Money.of(amount) : null;
+    }
+}
@@ -4,18 +4,23 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
-import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.Hibernate;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // Created by the Flyway migrations; the table is partitioned by month of created_at (V3)
+        @Index(name = "idx_orders_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_orders_status", columnList = "status"),
+        @Index(name = "idx_orders_created_id", columnList = "created_at, id")
+})
 @Getter
 @Setter
 @Data
@@ -45,8 +50,8 @@ public class Order {
 
     @NotNull(message = "Total amount is required")
     @Column(nullable = false, precision = 10, scale = 2)
-    @DecimalMin(value = "0.0", inclusive = true)
-    private BigDecimal totalAmount;
+    @Convert(converter = MoneyConverter.class)
+    private Money totalAmount;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -63,6 +68,12 @@ public class Order {
 
     private LocalDateTime updatedAt;
 
+    // @DecimalMin doesn't apply to Money, so the non-negative check is spelled out
+    @AssertTrue(message = "Total amount cannot be negative")
+    private boolean isTotalAmountNonNegative() {
+        return totalAmount == null || totalAmount.cents() >= 0;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -72,7 +83,10 @@ public class Order {
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
-        calculateTotal();
+        // Items that were never loaded can't have changed; don't load them just to re-add them
+        if (Hibernate.isInitialized(items)) {
+            calculateTotal();
+        }
     }
 
     // Helper method to add items
@@ -87,11 +101,15 @@ public class Order {
         item.setOrder(null);
     }
 
-    // Calculate total with NULL safety
+    // Calculate total with NULL safety, in cents: no per-item allocation
     public void calculateTotal() {
-        this.totalAmount = items.stream()
-                .map(OrderItem::getSubtotal)
-                .filter(subtotal -> subtotal != null) // ← FILTER OUT NULLS
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long cents = 0;
+        for (OrderItem item : items) {
+            Money subtotal = item.getSubtotal();
+            if (subtotal != null) {
+                cents = Math.addExact(cents, subtotal.cents());
+            }
+        }
+        this.totalAmount = new Money(cents);
     }
 }
\ No newline at end of file
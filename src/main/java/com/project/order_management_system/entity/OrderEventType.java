@@ -0,0 +1,7 @@
+package com.project.order_management_system.entity;
+
+public enum OrderEventType {
+    CREATED,
+    STATUS_CHANGED,
+    CANCELLED
+}
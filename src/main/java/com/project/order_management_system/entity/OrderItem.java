@@ -11,10 +11,11 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items", indexes = {
+        @Index(name = "idx_order_items_order", columnList = "order_id"),
+        @Index(name = "idx_order_items_product", columnList = "product_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -41,18 +42,20 @@ public class OrderItem {
     private Integer quantity;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal price;
+    @Convert(converter = MoneyConverter.class)
+    private Money price;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal subtotal;
+    @Convert(converter = MoneyConverter.class)
+    private Money subtotal;
 
     @PrePersist
     @PreUpdate
     public void calculateSubtotal() {
         if (this.price != null && this.quantity != null) {
-            this.subtotal = this.price.multiply(BigDecimal.valueOf(this.quantity));
+            this.subtotal = this.price.times(this.quantity);
         } else {
-            this.subtotal = BigDecimal.ZERO;
+            this.subtotal = Money.ZERO;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.project.order_management_system.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Order lifecycle event written in the same transaction as the order change
+ * and relayed to the Redis Stream afterwards. The id is the event id consumers
+ * use to de-duplicate redeliveries.
+ */
+@Entity
+@Table(name = "order_outbox", indexes = {
+        // Relay reads unpublished rows in id order
+        @Index(name = "idx_outbox_published_id", columnList = "published_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderEventType type;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private String orderNumber;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private OrderStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal totalAmount;
+
+    // Only set on CREATED events, for clients that list the new order
+    private String userName;
+
+    private String userEmail;
+
+    private Integer itemCount;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,7 @@
+package com.project.order_management_system.entity;
+
+public enum ReservationStatus {
+    HELD,           // Stock held for a PENDING order until expiresAt
+    CONVERTED,      // Order confirmed, stock permanently deducted
+    RELEASED        // Order cancelled or reservation expired, stock restored
+}
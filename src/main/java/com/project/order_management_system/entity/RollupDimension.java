@@ -0,0 +1,9 @@
+package com.project.order_management_system.entity;
+
+public enum RollupDimension {
+    TOTAL,          // Single bucket "all" with overall totals
+    DAY,            // Bucket is the ISO order date, e.g. 2025-01-31
+    PRODUCT,        // Bucket is the product id
+    CATEGORY,       // Bucket is the product category
+    STATUS          // Bucket is the OrderStatus name, only orderCount is used
+}
@@ -0,0 +1,58 @@
+package com.project.order_management_system.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Incrementally maintained sales aggregate. One row per (dimension, bucket),
+ * so every dashboard figure is a primary key or short index lookup.
+ */
+@Entity
+@Table(name = "sales_rollups", indexes = {
+        @Index(name = "idx_rollup_dimension_revenue", columnList = "dimension, revenue")
+})
+@IdClass(SalesRollup.RollupId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesRollup {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private RollupDimension dimension;
+
+    @Id
+    @Column(length = 100)
+    private String bucket;
+
+    // Human readable name for the bucket (product name), may be null
+    private String label;
+
+    @Column(nullable = false)
+    private Long orderCount;
+
+    @Column(nullable = false)
+    private Long units;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RollupId implements Serializable {
+        private RollupDimension dimension;
+        private String bucket;
+    }
+}
@@ -1,6 +1,8 @@
 package com.project.order_management_system.exception;
 
 import com.project.order_management_system.dto.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +17,14 @@ import java.util.List;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final Counter insufficientStockCounter;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.insufficientStockCounter = Counter.builder("orders.insufficient_stock")
+                .description("Orders rejected because of insufficient stock")
+                .register(meterRegistry);
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
             ResourceNotFoundException ex,
@@ -35,6 +45,8 @@ public class GlobalExceptionHandler {
             InsufficientStockException ex,
             HttpServletRequest request) {
 
+        insufficientStockCounter.increment();
+
         ErrorResponse error = new ErrorResponse(
                 HttpStatus.BAD_REQUEST.value(),
                 "Bad Request",
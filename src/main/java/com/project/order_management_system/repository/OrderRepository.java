@@ -2,12 +2,16 @@ package com.project.order_management_system.repository;
 
 import com.project.order_management_system.entity.Order;
 import com.project.order_management_system.entity.OrderStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +22,18 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     List<Order> findByUserId(Long userId);
 
+    @Query("SELECT DISTINCT o FROM Order o JOIN FETCH o.user LEFT JOIN FETCH o.items i LEFT JOIN FETCH i.product " +
+            "WHERE o.user.id = :userId ORDER BY o.id")
+    List<Order> findWithItemsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT o FROM Order o JOIN FETCH o.user LEFT JOIN FETCH o.items i LEFT JOIN FETCH i.product " +
+            "WHERE o.id IN :ids")
+    List<Order> findWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT o FROM Order o JOIN FETCH o.user LEFT JOIN FETCH o.items i LEFT JOIN FETCH i.product " +
+            "ORDER BY o.id")
+    List<Order> findAllWithItems();
+
     List<Order> findByStatus(OrderStatus status);
 
     @Query("SELECT o FROM Order o WHERE o.user.id = :userId AND o.status = :status")
@@ -30,4 +46,38 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     @Query("SELECT COUNT(o) FROM Order o WHERE o.user.id = :userId")
     long countOrdersByUserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    // Id range across live and archived orders (all_orders view)
+    @Query(value = "SELECT MIN(id) FROM all_orders", nativeQuery = true)
+    Long findMinId();
+
+    @Query(value = "SELECT MAX(id) FROM all_orders", nativeQuery = true)
+    Long findMaxId();
+
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :newStatus, o.updatedAt = :now " +
+            "WHERE o.id IN :ids AND o.status = :currentStatus")
+    int updateStatusForIds(@Param("ids") Collection<Long> ids,
+                           @Param("currentStatus") OrderStatus currentStatus,
+                           @Param("newStatus") OrderStatus newStatus,
+                           @Param("now") LocalDateTime now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Locks the orders in id order, so concurrent bulk updates can't deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id IN :ids ORDER BY o.id")
+    List<Order> findAllForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :newStatus, o.updatedAt = :now " +
+            "WHERE o.id IN :ids AND o.status IN :currentStatuses")
+    int updateStatusForIds(@Param("ids") Collection<Long> ids,
+                           @Param("currentStatuses") Collection<OrderStatus> currentStatuses,
+                           @Param("newStatus") OrderStatus newStatus,
+                           @Param("now") LocalDateTime now);
+}
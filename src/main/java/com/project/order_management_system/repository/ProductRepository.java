@@ -1,11 +1,17 @@
 package com.project.order_management_system.repository;
 
 import com.project.order_management_system.entity.Product;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -18,4 +24,22 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findAvailableProducts();
 
     boolean existsByName(String name);
+
+    @Query("SELECT DISTINCT p.category FROM Product p")
+    List<String> findDistinctCategories();
+
+    @Query("SELECT p.name FROM Product p WHERE p.name IN :names")
+    Set<String> findExistingNames(@Param("names") Collection<String> names);
+
+    /**
+     * Locks the products in id order, so concurrent orders can't deadlock. Locked
+     * reads always go to the database, never to the second-level cache.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity WHERE p.id = :id")
+    int incrementStock(@Param("id") Long id, @Param("quantity") int quantity);
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.project.order_management_system.repository;
+
+import com.project.order_management_system.entity.RollupDimension;
+import com.project.order_management_system.entity.SalesRollup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, SalesRollup.RollupId> {
+
+    List<SalesRollup> findByDimension(RollupDimension dimension);
+
+    List<SalesRollup> findByDimensionOrderByRevenueDesc(RollupDimension dimension, Pageable pageable);
+
+    List<SalesRollup> findByDimensionAndBucketBetweenOrderByBucket(RollupDimension dimension,
+                                                                   String fromBucket,
+                                                                   String toBucket);
+
+    /**
+     * Atomically add deltas to a bucket, creating it on first use. Concurrent
+     * orders touching the same bucket serialize on the row instead of losing updates.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups (dimension, bucket, label, order_count, units, revenue, updated_at) " +
+            "VALUES (:dimension, :bucket, :label, :orderCount, :units, :revenue, now()) " +
+            "ON CONFLICT (dimension, bucket) DO UPDATE SET " +
+            "label = COALESCE(EXCLUDED.label, sales_rollups.label), " +
+            "order_count = sales_rollups.order_count + EXCLUDED.order_count, " +
+            "units = sales_rollups.units + EXCLUDED.units, " +
+            "revenue = sales_rollups.revenue + EXCLUDED.revenue, " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    int increment(@Param("dimension") String dimension,
+                  @Param("bucket") String bucket,
+                  @Param("label") String label,
+                  @Param("orderCount") long orderCount,
+                  @Param("units") long units,
+                  @Param("revenue") BigDecimal revenue);
+}
@@ -0,0 +1,74 @@
+package com.project.order_management_system.repository;
+
+import com.project.order_management_system.entity.ReservationStatus;
+import com.project.order_management_system.entity.StockReservation;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    /**
+     * Oldest expired HELD reservations, served by idx_reservation_status_expires.
+     * Rows locked by another node's sweep are skipped (lock timeout -2 = SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM StockReservation r WHERE r.status = :status AND r.expiresAt < :now ORDER BY r.expiresAt")
+    List<StockReservation> findExpired(@Param("status") ReservationStatus status,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    List<StockReservation> findByOrderIdAndStatus(Long orderId, ReservationStatus status);
+
+    /**
+     * Locks the order's reservations still in one of {@code statuses}, waiting
+     * for a sweep that holds them; rows it released meanwhile drop out.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM StockReservation r WHERE r.order.id = :orderId AND r.status IN :statuses ORDER BY r.id")
+    List<StockReservation> findByOrderIdForUpdate(@Param("orderId") Long orderId,
+                                                  @Param("statuses") Collection<ReservationStatus> statuses);
+
+    /**
+     * Bulk variant of {@link #findByOrderIdForUpdate}, for status changes of many orders.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM StockReservation r WHERE r.order.id IN :orderIds AND r.status IN :statuses ORDER BY r.id")
+    List<StockReservation> findByOrderIdsForUpdate(@Param("orderIds") Collection<Long> orderIds,
+                                                   @Param("statuses") Collection<ReservationStatus> statuses);
+
+    boolean existsByOrderId(Long orderId);
+
+    long countByOrderIdAndStatus(Long orderId, ReservationStatus status);
+
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :newStatus WHERE r.order.id = :orderId AND r.status = :currentStatus")
+    int updateStatusForOrder(@Param("orderId") Long orderId,
+                             @Param("currentStatus") ReservationStatus currentStatus,
+                             @Param("newStatus") ReservationStatus newStatus);
+
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :newStatus " +
+            "WHERE r.order.id IN :orderIds AND r.status = :currentStatus")
+    int updateStatusForOrders(@Param("orderIds") Collection<Long> orderIds,
+                              @Param("currentStatus") ReservationStatus currentStatus,
+                              @Param("newStatus") ReservationStatus newStatus);
+
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :newStatus WHERE r.id IN :ids")
+    int updateStatusForIds(@Param("ids") Collection<Long> ids,
+                           @Param("newStatus") ReservationStatus newStatus);
+}
@@ -1,13 +1,19 @@
 package com.project.order_management_system.repository;
 
 import com.project.order_management_system.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Runs on every authenticated request; users change rarely, so the result is query-cached
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
+
     boolean existsByEmail(String email);
 }
\ No newline at end of file
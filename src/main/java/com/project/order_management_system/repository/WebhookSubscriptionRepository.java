@@ -0,0 +1,13 @@
+package com.project.order_management_system.repository;
+
+import com.project.order_management_system.entity.WebhookSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WebhookSubscriptionRepository extends JpaRepository<WebhookSubscription, Long> {
+
+    List<WebhookSubscription> findByActiveTrue();
+}
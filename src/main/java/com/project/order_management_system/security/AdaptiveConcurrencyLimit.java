@@ -0,0 +1,88 @@
+package com.project.order_management_system.security;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows database latency, after the gradient
+ * algorithm of Netflix's concurrency-limits. Each finished request reports
+ * the mean time of its statements; a short and a long moving average of those
+ * are compared, and while recent latency stays within {@code tolerance} of
+ * the long-term baseline the limit grows step by step up to {@code maxLimit}.
+ * When the database slows down (lock contention, an
+ * exhausted pool) the limit shrinks towards {@code minLimit} and requests
+ * above it are shed before they queue for a connection.
+ */
+final class AdaptiveConcurrencyLimit {
+
+    private static final double SHORT_WEIGHT = 0.1;
+    private static final double LONG_WEIGHT = 0.005;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // Guarded by this
+    private double shortNanos;
+    private double longNanos;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > limit) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param statementNanos mean statement time of the finished request, or a
+     *                       negative value when it ran no statements
+     */
+    void release(long statementNanos) {
+        inFlight.decrementAndGet();
+        if (statementNanos >= 0) {
+            sample(statementNanos);
+        }
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void sample(long nanos) {
+        if (longNanos == 0) {
+            shortNanos = nanos;
+            longNanos = nanos;
+            return;
+        }
+        shortNanos += (nanos - shortNanos) * SHORT_WEIGHT;
+        longNanos += (nanos - longNanos) * LONG_WEIGHT;
+        // Latency well below the baseline again: let the baseline catch up quickly
+        if (longNanos > 2 * shortNanos) {
+            longNanos *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longNanos / shortNanos));
+        int current = limit;
+        // Don't grow a limit the traffic isn't using
+        if (gradient == 1.0 && inFlight.get() < current / 2) {
+            return;
+        }
+        double target = current * gradient + Math.sqrt(current);
+        int next = (int) Math.round(current * (1 - SMOOTHING) + target * SMOOTHING);
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
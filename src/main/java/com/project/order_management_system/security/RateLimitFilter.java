@@ -0,0 +1,150 @@
+package com.project.order_management_system.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.order_management_system.config.RequestCost;
+import com.project.order_management_system.dto.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for the order and catalog endpoints, right after
+ * {@link JwtAuthenticationFilter}. Each client, keyed by JWT subject or else
+ * by IP, has a token bucket for placing orders and one for everything else;
+ * an empty bucket answers 429 with Retry-After. Requests that pass are then
+ * held to an {@link AdaptiveConcurrencyLimit} that shrinks when database
+ * latency rises; requests above it are shed with 503, so a flood can't take
+ * every Tomcat thread and pooled connection.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String ORDERS = "/api/v1/orders";
+    private static final String PRODUCTS = "/api/v1/products";
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final RateLimiter.Limit createOrderLimit;
+    private final RateLimiter.Limit apiLimit;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final boolean rateLimitEnabled;
+    private final Counter rateLimited;
+    private final Counter shed;
+
+    public RateLimitFilter(RateLimiter rateLimiter,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.rate-limit.enabled:true}") boolean rateLimitEnabled,
+                           @Value("${app.rate-limit.create-order.capacity:10}") int createOrderCapacity,
+                           @Value("${app.rate-limit.create-order.per-second:1}") double createOrderPerSecond,
+                           @Value("${app.rate-limit.api.capacity:100}") int apiCapacity,
+                           @Value("${app.rate-limit.api.per-second:20}") double apiPerSecond,
+                           @Value("${app.concurrency-limit.enabled:true}") boolean concurrencyLimitEnabled,
+                           @Value("${app.concurrency-limit.initial:50}") int initialLimit,
+                           @Value("${app.concurrency-limit.min:10}") int minLimit,
+                           @Value("${app.concurrency-limit.max:200}") int maxLimit,
+                           @Value("${app.concurrency-limit.latency-tolerance:1.5}") double latencyTolerance) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.rateLimitEnabled = rateLimitEnabled;
+        this.createOrderLimit = new RateLimiter.Limit("create-order", createOrderCapacity, createOrderPerSecond);
+        this.apiLimit = new RateLimiter.Limit("api", apiCapacity, apiPerSecond);
+        this.concurrencyLimit = concurrencyLimitEnabled
+                ? new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, latencyTolerance)
+                : null;
+
+        this.rateLimited = Counter.builder("http.server.rate_limited")
+                .description("Requests rejected with 429 because the client's token bucket was empty")
+                .register(meterRegistry);
+        this.shed = Counter.builder("http.server.load_shed")
+                .description("Requests rejected with 503 above the adaptive concurrency limit")
+                .register(meterRegistry);
+        if (concurrencyLimit != null) {
+            Gauge.builder("http.server.concurrency.limit", concurrencyLimit, AdaptiveConcurrencyLimit::getLimit)
+                    .description("Current adaptive concurrency limit")
+                    .register(meterRegistry);
+            Gauge.builder("http.server.concurrency.in_flight", concurrencyLimit, AdaptiveConcurrencyLimit::getInFlight)
+                    .description("Requests currently held to the concurrency limit")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return "OPTIONS".equals(request.getMethod())
+                || !(path.startsWith(ORDERS) || path.startsWith(PRODUCTS));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (rateLimitEnabled) {
+            RateLimiter.Limit limit = isCreateOrder(request) ? createOrderLimit : apiLimit;
+            long waitNanos = rateLimiter.tryAcquire(limit, clientKey(request));
+            if (waitNanos > 0) {
+                rateLimited.increment();
+                reject(request, response, HttpStatus.TOO_MANY_REQUESTS, waitNanos,
+                        "Rate limit exceeded, retry later");
+                return;
+            }
+        }
+
+        if (concurrencyLimit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!concurrencyLimit.tryAcquire()) {
+            shed.increment();
+            reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, TimeUnit.SECONDS.toNanos(1),
+                    "Server is overloaded, retry later");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            concurrencyLimit.release(RequestCost.meanStatementNanos());
+        }
+    }
+
+    private static boolean isCreateOrder(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && ORDERS.equals(request.getRequestURI());
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                        long retryAfterNanos, String message) throws IOException {
+        // Whole seconds, rounded up: retrying earlier would only be rejected again
+        long retryAfterSeconds = Math.max(1, (retryAfterNanos + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                status.value(), status.getReasonPhrase(), message, request.getRequestURI()));
+    }
+}
@@ -0,0 +1,110 @@
+package com.project.order_management_system.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client token buckets. By default each node keeps its own buckets, so a
+ * client gets the configured rate from every node; with
+ * app.rate-limit.redis=true the buckets live in Redis and are shared by all
+ * nodes. If Redis can't be reached the node falls back to its own buckets
+ * rather than rejecting or letting everything through: Redis commands time out
+ * after app.rate-limit.redis-timeout, and after a failure Redis is left alone
+ * for app.rate-limit.redis-retry-interval so requests don't each wait for the
+ * timeout while it is down.
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    /**
+     * Same algorithm as {@link TokenBucket} on Redis' clock, in microseconds:
+     * returns 0 when a token was taken, otherwise the microseconds until one is.
+     */
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>(
+            "local interval = tonumber(ARGV[1]) " +
+            "local burst = tonumber(ARGV[2]) " +
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000000 + tonumber(time[2]) " +
+            "local full_at = math.max(tonumber(redis.call('GET', KEYS[1]) or now), now) " +
+            "local next = full_at + interval " +
+            "local wait = next - now - burst " +
+            "if wait > 0 then return wait end " +
+            "redis.call('SET', KEYS[1], string.format('%d', next), 'PX', math.ceil((next - now) / 1000)) " +
+            "return 0", Long.class);
+
+    private static final String KEY_PREFIX = "oms:rate-limit:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final boolean shared;
+    private final long retryIntervalNanos;
+    private volatile long redisSkippedUntil;
+
+    public RateLimiter(@Qualifier("rateLimitConnectionFactory") RedisConnectionFactory connectionFactory,
+                       @Value("${app.rate-limit.redis:false}") boolean shared,
+                       @Value("${app.rate-limit.redis-retry-interval:5s}") Duration retryInterval) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+        this.shared = shared;
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.redisSkippedUntil = System.nanoTime();
+    }
+
+    /**
+     * A named rate: {@code capacity} requests in a burst, refilled at
+     * {@code perSecond}.
+     */
+    public record Limit(String name, int capacity, double perSecond) {
+    }
+
+    /**
+     * Takes a token from {@code client}'s bucket for {@code limit}.
+     *
+     * @return 0 when the request may proceed, otherwise the nanoseconds until
+     *         the client may try again
+     */
+    public long tryAcquire(Limit limit, String client) {
+        String key = limit.name() + ":" + client;
+        long now = System.nanoTime();
+        if (shared && now - redisSkippedUntil >= 0) {
+            try {
+                return tryAcquireShared(limit, key);
+            } catch (Exception e) {
+                redisSkippedUntil = System.nanoTime() + retryIntervalNanos;
+                log.warn("Shared rate limit unavailable, using local buckets for {} ms: {}",
+                        TimeUnit.NANOSECONDS.toMillis(retryIntervalNanos), e.getMessage());
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(limit.capacity(), limit.perSecond(), now))
+                .tryAcquire(now);
+    }
+
+    private long tryAcquireShared(Limit limit, String key) {
+        long intervalMicros = (long) (1_000_000L / limit.perSecond());
+        Long waitMicros = redisTemplate.execute(ACQUIRE, List.of(KEY_PREFIX + key),
+                String.valueOf(intervalMicros), String.valueOf(intervalMicros * limit.capacity()));
+        return waitMicros != null ? TimeUnit.MICROSECONDS.toNanos(waitMicros) : 0;
+    }
+
+    /**
+     * Drops buckets that refilled completely; the next request creates a new one.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval:60s}")
+    public void evictFull() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.order_management_system.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket holding up to {@code capacity} tokens, refilled at
+ * {@code perSecond}. Kept as a single timestamp, the time at which the
+ * bucket would be full again (the GCRA form of a token bucket), so taking a
+ * token is one compare-and-set.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(int capacity, double perSecond, long nowNanos) {
+        this.intervalNanos = (long) (1_000_000_000L / perSecond);
+        this.burstNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return 0 when a token was taken, otherwise the nanoseconds until one is
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Full buckets behave like new ones and can be dropped.
+     */
+    boolean isFull(long nowNanos) {
+        return fullAt.get() <= nowNanos;
+    }
+}
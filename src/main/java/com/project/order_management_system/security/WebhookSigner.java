@@ -0,0 +1,65 @@
+package com.project.order_management_system.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+
+/**
+ * HMAC-SHA256 signatures for webhook deliveries. Each subscription's secret is
+ * derived from the JWT secret and the subscription id, so no secret is stored
+ * and rotating jwt.secret rotates every webhook secret with it.
+ * <p>
+ * Receivers verify {@code X-Webhook-Signature: sha256=<hex>} over
+ * {@code <X-Webhook-Timestamp>.<body>} with the secret returned on creation.
+ */
+@Component
+public class WebhookSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    public WebhookSigner() {
+    }
+
+    // For use outside the Spring context, e.g. the webhook load test
+    public WebhookSigner(String secret) {
+        this.secret = secret;
+    }
+
+    /**
+     * Secret handed to the subscriber to verify signatures.
+     */
+    public String secretFor(Long subscriptionId) {
+        return HexFormat.of().formatHex(hmac(secret.getBytes(StandardCharsets.UTF_8),
+                ("webhook:" + subscriptionId).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public String sign(Long subscriptionId, String timestamp, byte[] body) {
+        Mac mac = newMac(secretFor(subscriptionId).getBytes(StandardCharsets.UTF_8));
+        mac.update(timestamp.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) '.');
+        mac.update(body);
+        return HexFormat.of().formatHex(mac.doFinal());
+    }
+
+    private static byte[] hmac(byte[] key, byte[] data) {
+        return newMac(key).doFinal(data);
+    }
+
+    private static Mac newMac(byte[] key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(key, ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.project.order_management_system.service;
+
+import com.project.order_management_system.dto.BackfillStatusResponse;
+import com.project.order_management_system.entity.SalesRollup;
+import com.project.order_management_system.repository.OrderRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rebuilds sales_rollups from the historical orders, live and archived. The id range is
+ * cut into fixed-size chunks; each chunk is streamed through a read-only
+ * cursor into its own {@link RollupAccumulator} on a ForkJoinPool and the
+ * partial results are merged pairwise on the way back up.
+ *
+ * Incremental updates that commit while a rebuild is running are overwritten,
+ * so run it in a quiet window.
+ */
+@Service
+@Slf4j
+public class AnalyticsBackfillService {
+
+    private static final String CHUNK_SQL =
+            "SELECT o.id, o.status, CAST(o.created_at AS DATE) AS order_day, " +
+            "oi.product_id, p.name, p.category, oi.quantity, " +
+            "CAST(ROUND(oi.subtotal * 100) AS BIGINT) AS subtotal_cents " +
+            "FROM all_orders o " +
+            "LEFT JOIN all_order_items oi ON oi.order_id = o.id " +
+            "LEFT JOIN products p ON p.id = oi.product_id " +
+            "WHERE o.id >= ? AND o.id < ? " +
+            "ORDER BY o.id";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO sales_rollups (dimension, bucket, label, order_count, units, revenue, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final OrderRepository orderRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTx;
+    private final TransactionTemplate writeTx;
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "analytics-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${analytics.backfill.chunk-size:10000}")
+    private int chunkSize;
+
+    // Each worker holds a pooled connection while streaming, keep below the Hikari pool size
+    @Value("${analytics.backfill.parallelism:4}")
+    private int parallelism;
+
+    @Value("${analytics.backfill.fetch-size:1000}")
+    private int fetchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicInteger completedChunks = new AtomicInteger();
+    private final AtomicLong rowsProcessed = new AtomicLong();
+    private volatile int totalChunks;
+    private volatile boolean dryRun;
+    private volatile int rollupsWritten;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public AnalyticsBackfillService(OrderRepository orderRepository,
+                                    JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.writeTx = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Start a rebuild in the background. With dryRun the aggregates are computed
+     * but not written, which doubles as a rows-per-second throughput benchmark.
+     */
+    public BackfillStatusResponse start(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Analytics backfill is already running");
+        }
+
+        this.dryRun = dryRun;
+        completedChunks.set(0);
+        rowsProcessed.set(0);
+        totalChunks = 0;
+        rollupsWritten = 0;
+        error = null;
+        finishedAt = null;
+        finishedNanos = 0;
+        startedAt = LocalDateTime.now();
+        startedNanos = System.nanoTime();
+
+        coordinator.submit(this::run);
+        return getStatus();
+    }
+
+    public BackfillStatusResponse getStatus() {
+        long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+        long elapsedNanos = startedNanos != 0 ? end - startedNanos : 0;
+        long rows = rowsProcessed.get();
+
+        return BackfillStatusResponse.builder()
+                .running(running.get())
+                .dryRun(dryRun)
+                .totalChunks(totalChunks)
+                .completedChunks(completedChunks.get())
+                .rowsProcessed(rows)
+                .rowsPerSecond(elapsedNanos > 0 ? rows * 1_000_000_000L / elapsedNanos : 0)
+                .rollupsWritten(rollupsWritten)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .error(error)
+                .build();
+    }
+
+    private void run() {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            Long minId = orderRepository.findMinId();
+            Long maxId = orderRepository.findMaxId();
+
+            RollupAccumulator result;
+            if (minId == null) {
+                result = new RollupAccumulator();
+            } else {
+                long span = maxId - minId + 1;
+                totalChunks = (int) ((span + chunkSize - 1) / chunkSize);
+                log.info("Analytics backfill over order ids {}..{} in {} chunks (parallelism {})",
+                        minId, maxId, totalChunks, parallelism);
+                result = pool.invoke(new ChunkTask(minId, 0, totalChunks));
+            }
+
+            if (!dryRun) {
+                rollupsWritten = replaceRollups(result.toRollups());
+            }
+
+            finishedNanos = System.nanoTime();
+            log.info("Analytics backfill finished: {}", getStatus());
+        } catch (Exception ex) {
+            error = ex.getMessage();
+            log.error("Analytics backfill failed", ex);
+        } finally {
+            if (finishedNanos == 0) {
+                finishedNanos = System.nanoTime();
+            }
+            finishedAt = LocalDateTime.now();
+            pool.shutdown();
+            running.set(false);
+        }
+    }
+
+    private RollupAccumulator aggregateChunk(long fromId, long toId) {
+        RollupAccumulator accumulator = new RollupAccumulator();
+
+        // Read-only transaction so PostgreSQL honours the fetch size with a server-side cursor
+        readOnlyTx.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(CHUNK_SQL);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, fromId);
+            ps.setLong(2, toId);
+            return ps;
+        }, rs -> {
+            long productId = rs.getLong(4);
+            boolean hasItem = !rs.wasNull();
+            accumulator.accept(
+                    rs.getLong(1),
+                    rs.getString(2),
+                    rs.getString(3),
+                    hasItem ? productId : null,
+                    rs.getString(5),
+                    rs.getString(6),
+                    rs.getInt(7),
+                    rs.getLong(8));
+        }));
+
+        rowsProcessed.addAndGet(accumulator.getRows());
+        int done = completedChunks.incrementAndGet();
+        if (done % 10 == 0 || done == totalChunks) {
+            log.info("Analytics backfill progress: {}/{} chunks, {} rows", done, totalChunks, rowsProcessed.get());
+        }
+        return accumulator;
+    }
+
+    private int replaceRollups(List<SalesRollup> rollups) {
+        writeTx.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM sales_rollups");
+            jdbcTemplate.batchUpdate(INSERT_SQL, rollups, 500, (ps, rollup) -> {
+                ps.setString(1, rollup.getDimension().name());
+                ps.setString(2, rollup.getBucket());
+                ps.setString(3, rollup.getLabel());
+                ps.setLong(4, rollup.getOrderCount());
+                ps.setLong(5, rollup.getUnits());
+                ps.setBigDecimal(6, rollup.getRevenue());
+                ps.setTimestamp(7, Timestamp.valueOf(rollup.getUpdatedAt()));
+            });
+        });
+        return rollups.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    /**
+     * Covers chunks [fromChunk, toChunk) of the id range starting at baseId.
+     */
+    private final class ChunkTask extends RecursiveTask<RollupAccumulator> {
+
+        private final long baseId;
+        private final int fromChunk;
+        private final int toChunk;
+
+        ChunkTask(long baseId, int fromChunk, int toChunk) {
+            this.baseId = baseId;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected RollupAccumulator compute() {
+            if (toChunk - fromChunk == 1) {
+                long fromId = baseId + (long) fromChunk * chunkSize;
+                return aggregateChunk(fromId, fromId + chunkSize);
+            }
+
+            int mid = (fromChunk + toChunk) >>> 1;
+            ChunkTask left = new ChunkTask(baseId, fromChunk, mid);
+            left.fork();
+            RollupAccumulator right = new ChunkTask(baseId, mid, toChunk).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.project.order_management_system.entity.User;
 import com.project.order_management_system.exception.ResourceNotFoundException;
 import com.project.order_management_system.repository.UserRepository;
 import com.project.order_management_system.security.JwtTokenProvider;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -69,6 +70,7 @@ public class AuthService {
                 .build();
     }
 
+    @Timed(value = "auth.login", percentiles = { 0.5, 0.99, 0.999 }, histogram = true)
     public AuthResponse login(LoginRequest request) {
         log.info("Login attempt for email: {}", request.getEmail());
 
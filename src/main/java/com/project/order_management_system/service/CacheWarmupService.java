@@ -0,0 +1,124 @@
+package com.project.order_management_system.service;
+
+import com.project.order_management_system.config.CacheClearedEvent;
+import com.project.order_management_system.dto.SalesRollupResponse;
+import com.project.order_management_system.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Preloads the catalog views of the "products" cache (all, active, every
+ * category) and the best selling products. Runs once during startup before
+ * the node reports ready, and again in the background after the whole cache
+ * has been cleared (product changes); bursts of clears are coalesced into one
+ * refresh. Orders only evict the entries of the products they touch.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheWarmupService {
+
+    private final ProductService productService;
+    private final ProductRepository productRepository;
+    private final SalesAnalyticsService analyticsService;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${app.cache.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.warmup.hot-products:100}")
+    private int hotProducts;
+
+    @Value("${app.cache.warmup.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.cache.warmup.refresh-delay-ms:2000}")
+    private long refreshDelayMs;
+
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newFixedThreadPool(parallelism);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Load every catalog view in parallel and wait for completion.
+     */
+    public void warmCatalog() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<Runnable> tasks = new ArrayList<>();
+        tasks.add(productService::getAllProducts);
+        tasks.add(productService::getActiveProducts);
+        for (String category : productRepository.findDistinctCategories()) {
+            tasks.add(() -> productService.getProductsByCategory(category));
+        }
+        for (SalesRollupResponse rollup : analyticsService.getTopProducts(hotProducts)) {
+            Long productId = Long.valueOf(rollup.getBucket());
+            tasks.add(() -> productService.getProductById(productId));
+        }
+
+        CompletableFuture.allOf(tasks.stream()
+                .map(task -> CompletableFuture.runAsync(() -> runQuietly(task), executor))
+                .toArray(CompletableFuture[]::new)).join();
+
+        log.info("Warmed products cache with {} entries in {} ms", tasks.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * The clear of a transaction-aware cache only happens on commit, so schedule
+     * the refresh after commit and a short delay that also absorbs bursts.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCacheCleared(CacheClearedEvent event) {
+        if (!enabled || !"products".equals(event.cacheName())) {
+            return;
+        }
+        if (refreshScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::refresh, Instant.now().plus(Duration.ofMillis(refreshDelayMs)));
+        }
+    }
+
+    private void refresh() {
+        refreshScheduled.set(false);
+        try {
+            warmCatalog();
+        } catch (Exception e) {
+            log.warn("Background products cache refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private void runQuietly(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            // e.g. a hot product that has been deleted meanwhile
+            log.debug("Cache warm-up task failed: {}", e.getMessage());
+        }
+    }
+}
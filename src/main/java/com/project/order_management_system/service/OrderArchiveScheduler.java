@@ -0,0 +1,61 @@
+package com.project.order_management_system.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderArchiveScheduler {
+
+    private final OrderArchiveService archiveService;
+
+    @Value("${archive.partitions-ahead-months:3}")
+    private int partitionsAheadMonths;
+
+    @Value("${archive.retention-days:180}")
+    private long retentionDays;
+
+    @Value("${archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${archive.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    /**
+     * Runs at startup too, so the partitions for upcoming months exist before
+     * any order needs them. Archiving goes batch by batch, each in its own
+     * transaction; a failure leaves the rest for the next run.
+     */
+    @Scheduled(fixedDelayString = "${archive.interval-ms:3600000}")
+    public void maintain() {
+        try {
+            archiveService.createPartitions(partitionsAheadMonths);
+        } catch (Exception e) {
+            log.error("Could not create order partitions", e);
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int archived = archiveService.archiveBatch(cutoff, batchSize);
+                total += archived;
+                if (archived < batchSize) {
+                    break;
+                }
+            }
+            archiveService.dropEmptyPartitionsBefore(cutoff);
+        } catch (Exception e) {
+            log.warn("Order archival stopped after {} orders: {}", total, e.getMessage());
+        }
+        if (total > 0) {
+            log.info("Archived {} closed orders created before {}", total, cutoff);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.project.order_management_system.service;
+
+import com.project.order_management_system.dto.OrderResponse;
+import com.project.order_management_system.entity.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Storage lifecycle of orders. The orders table is range-partitioned by month
+ * of created_at (db/migration/V3__partition_orders.sql): partitions are created
+ * ahead of time, with orders_default (V5) catching rows no partition covers yet, closed orders older than the retention period are moved with
+ * their items to orders_archive / order_items_archive, and monthly partitions
+ * left empty are dropped. Lookups that miss the live table fall back to the
+ * archive, which is read-only and read with plain SQL.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderArchiveService {
+
+    private static final long MAINTENANCE_LOCK_KEY = 0x6f6d732d617263L;
+    private static final String PARTITION_PREFIX = "orders_p";
+    private static final String DEFAULT_PARTITION = "orders_default";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+
+    private static final String ARCHIVE_BATCH_SQL =
+            "WITH batch AS (" +
+            "  SELECT id, created_at FROM orders WHERE created_at < ? AND status IN (%s) " +
+            "  ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED), " +
+            "items AS (" +
+            "  DELETE FROM order_items WHERE order_id IN (SELECT id FROM batch) " +
+            "  RETURNING id, order_id, product_id, quantity, price, subtotal), " +
+            "archived_items AS (" +
+            "  INSERT INTO order_items_archive (id, order_id, product_id, quantity, price, subtotal) " +
+            "  SELECT id, order_id, product_id, quantity, price, subtotal FROM items), " +
+            "reservations AS (" +
+            "  DELETE FROM stock_reservations WHERE order_id IN (SELECT id FROM batch)), " +
+            "moved AS (" +
+            "  DELETE FROM orders o USING batch b WHERE o.id = b.id AND o.created_at = b.created_at " +
+            "  RETURNING o.id, o.order_number, o.user_id, o.total_amount, o.status, o.shipping_address, " +
+            "  o.notes, o.created_at, o.updated_at) " +
+            "INSERT INTO orders_archive (id, order_number, user_id, total_amount, status, shipping_address, " +
+            "notes, created_at, updated_at) " +
+            "SELECT id, order_number, user_id, total_amount, status, shipping_address, notes, created_at, updated_at " +
+            "FROM moved";
+
+    private static final String ORDER_SQL =
+            "SELECT o.id, o.order_number, o.user_id, u.name, u.email, o.total_amount, o.status, " +
+            "o.shipping_address, o.notes, o.created_at, o.updated_at " +
+            "FROM orders_archive o JOIN users u ON u.id = o.user_id ";
+
+    private static final String ITEM_SQL =
+            "SELECT i.id, i.order_id, i.product_id, p.name, i.quantity, i.price, i.subtotal " +
+            "FROM order_items_archive i LEFT JOIN products p ON p.id = i.product_id " +
+            "WHERE i.order_id IN (%s) ORDER BY i.id";
+
+    private static final String PARTITIONS_SQL =
+            "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = 'orders'::regclass";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Move one batch of closed orders created before {@code cutoff}, with their
+     * items, to the archive tables. Their stock reservations are deleted.
+     *
+     * @return number of orders archived
+     */
+    @Transactional
+    public int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        List<String> closed = OrderStatusTransitions.terminal().stream()
+                .map(OrderStatus::name)
+                .toList();
+        String sql = String.format(ARCHIVE_BATCH_SQL, placeholders(closed.size()));
+
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.valueOf(cutoff));
+        args.addAll(closed);
+        args.add(batchSize);
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    /**
+     * Create the monthly partitions up to {@code monthsAhead} months after the
+     * current one. Returns 0 without doing anything while another node holds
+     * the maintenance lock.
+     *
+     * @return number of partitions created
+     */
+    @Transactional
+    public int createPartitions(int monthsAhead) {
+        if (!tryMaintenanceLock()) {
+            return 0;
+        }
+
+        // Partitions are contiguous: continue after the highest existing upper bound
+        YearMonth next = partitionUpperBounds().values().stream()
+                .max(LocalDateTime::compareTo)
+                .map(bound -> YearMonth.from(bound.minusNanos(1)).plusMonths(1))
+                .orElse(YearMonth.now());
+        YearMonth last = YearMonth.now().plusMonths(monthsAhead);
+
+        boolean hasDefault = partitionNames().contains(DEFAULT_PARTITION);
+        int created = 0;
+        for (YearMonth month = next; !month.isAfter(last); month = month.plusMonths(1)) {
+            createPartition(month, hasDefault);
+            created++;
+        }
+        if (created > 0) {
+            log.info("Created {} order partitions up to {}", created, partitionName(last));
+        }
+        return created;
+    }
+
+    /**
+     * Exclusive upper bound of the monthly partitions, i.e. the first instant
+     * whose orders would go to the default partition; empty when there are no
+     * bounded partitions.
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> partitionedUntil() {
+        return partitionUpperBounds().values().stream().max(LocalDateTime::compareTo);
+    }
+
+    /**
+     * Orders in the default partition, i.e. created while partitions were behind.
+     */
+    @Transactional(readOnly = true)
+    public long countInDefaultPartition() {
+        if (!partitionNames().contains(DEFAULT_PARTITION)) {
+            return 0;
+        }
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM " + DEFAULT_PARTITION, Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Drop monthly partitions that end before {@code cutoff} and hold no rows
+     * any more. Partitions still holding open orders are kept.
+     *
+     * @return number of partitions dropped
+     */
+    @Transactional
+    public int dropEmptyPartitionsBefore(LocalDateTime cutoff) {
+        if (!tryMaintenanceLock()) {
+            return 0;
+        }
+
+        int dropped = 0;
+        for (Map.Entry<String, LocalDateTime> partition : partitionUpperBounds().entrySet()) {
+            String name = partition.getKey();
+            if (!name.startsWith(PARTITION_PREFIX) || partition.getValue().isAfter(cutoff)) {
+                continue;
+            }
+            Boolean hasRows = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + name + ")", Boolean.class);
+            if (!Boolean.TRUE.equals(hasRows)) {
+                jdbcTemplate.execute("DROP TABLE " + name);
+                log.info("Dropped empty order partition {}", name);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<OrderResponse> findById(Long id) {
+        return findOrders("WHERE o.id = ?", id).stream().findFirst();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<OrderResponse> findByOrderNumber(String orderNumber) {
+        return findOrders("WHERE o.order_number = ?", orderNumber).stream().findFirst();
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderResponse> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return findOrders("WHERE o.id IN (" + placeholders(ids.size()) + ")", ids.toArray());
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderResponse> findByUserId(Long userId) {
+        return findOrders("WHERE o.user_id = ? ORDER BY o.id", userId);
+    }
+
+    private List<OrderResponse> findOrders(String condition, Object... args) {
+        Map<Long, OrderResponse> orders = new LinkedHashMap<>();
+        jdbcTemplate.query(ORDER_SQL + condition, rs -> {
+            OrderResponse order = mapOrder(rs);
+            orders.put(order.getId(), order);
+        }, args);
+        if (orders.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        jdbcTemplate.query(String.format(ITEM_SQL, placeholders(orders.size())), rs -> {
+            orders.get(rs.getLong(2)).getItems().add(OrderResponse.OrderItemResponse.builder()
+                    .id(rs.getLong(1))
+                    .productId(rs.getLong(3))
+                    .productName(rs.getString(4))
+                    .quantity(rs.getInt(5))
+                    .price(rs.getBigDecimal(6))
+                    .subtotal(rs.getBigDecimal(7))
+                    .build());
+        }, orders.keySet().toArray());
+        return new ArrayList<>(orders.values());
+    }
+
+    private static OrderResponse mapOrder(ResultSet rs) throws SQLException {
+        Timestamp updatedAt = rs.getTimestamp(11);
+        return OrderResponse.builder()
+                .id(rs.getLong(1))
+                .orderNumber(rs.getString(2))
+                .userId(rs.getLong(3))
+                .userName(rs.getString(4))
+                .userEmail(rs.getString(5))
+                .items(new ArrayList<>())
+                .totalAmount(rs.getBigDecimal(6))
+                .status(OrderStatus.valueOf(rs.getString(7)))
+                .shippingAddress(rs.getString(8))
+                .notes(rs.getString(9))
+                .createdAt(rs.getTimestamp(10).toLocalDateTime())
+                .updatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null)
+                .build();
+    }
+
+    /**
+     * A new partition can't be created while the default partition holds rows
+     * for its range: those are moved into a standalone table first, which is
+     * then attached.
+     */
+    private void createPartition(YearMonth month, boolean hasDefault) {
+        String name = partitionName(month);
+        String from = month.atDay(1).toString();
+        String to = month.plusMonths(1).atDay(1).toString();
+        String range = String.format("created_at >= '%s' AND created_at < '%s'", from, to);
+
+        boolean stranded = hasDefault && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE " + range + ")", Boolean.class));
+        if (!stranded) {
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF orders FOR VALUES FROM ('%s') TO ('%s')",
+                    name, from, to));
+            return;
+        }
+
+        jdbcTemplate.execute(String.format("CREATE TABLE %s (LIKE orders INCLUDING DEFAULTS)", name));
+        int moved = jdbcTemplate.update(String.format(
+                "WITH moved AS (DELETE FROM %s WHERE %s RETURNING *) INSERT INTO %s SELECT * FROM moved",
+                DEFAULT_PARTITION, range, name));
+        jdbcTemplate.execute(String.format(
+                "ALTER TABLE orders ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')", name, from, to));
+        log.warn("Moved {} orders from {} into the new partition {}", moved, DEFAULT_PARTITION, name);
+    }
+
+    private List<String> partitionNames() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = 'orders'::regclass", String.class);
+    }
+
+    /**
+     * Partition name to exclusive upper bound; the open-ended legacy partition
+     * reports its bound like any other.
+     */
+    private Map<String, LocalDateTime> partitionUpperBounds() {
+        Map<String, LocalDateTime> bounds = new LinkedHashMap<>();
+        jdbcTemplate.query(PARTITIONS_SQL, rs -> {
+            Matcher matcher = UPPER_BOUND.matcher(rs.getString(2));
+            if (matcher.find()) {
+                bounds.put(rs.getString(1), Timestamp.valueOf(matcher.group(1)).toLocalDateTime());
+            }
+        });
+        return bounds;
+    }
+
+    private boolean tryMaintenanceLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, MAINTENANCE_LOCK_KEY));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,377 @@
+package com.project.order_management_system.service;
+
+import com.project.order_management_system.dto.OrderStatusEvent;
+import com.project.order_management_system.entity.User;
+import com.project.order_management_system.exception.ResourceNotFoundException;
+import com.project.order_management_system.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pushes order lifecycle events to Server-Sent Events subscribers: users get
+ * their own orders, admins get all orders. Every node tails the order event
+ * stream, so a change committed on any node reaches subscribers on all nodes.
+ * <p>
+ * Idle subscribers hold no thread (async servlet), only their emitter. The SSE
+ * id is the stream entry id; a reconnect with Last-Event-ID replays the missed
+ * entries from the stream, or asks the client to reload ("resync") when it
+ * missed more than the replay limit.
+ * <p>
+ * Nothing writes to a client on the stream listener or scheduler thread: each
+ * subscriber has a bounded queue drained by a small writer pool, and a client
+ * whose queue overflows is too slow to keep up and is disconnected, so it
+ * can't hold up the others.
+ */
+@Service
+@Slf4j
+public class OrderEventBroadcaster {
+
+    static final String EVENT_NAME = "order-status";
+    static final String RESYNC_EVENT_NAME = "resync";
+
+    private final StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+    private final StringRedisTemplate redisTemplate;
+    private final UserRepository userRepository;
+    private final Map<Long, Set<Subscriber>> subscribersByUser = new ConcurrentHashMap<>();
+    private final Set<Subscriber> adminSubscribers = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> allSubscribers = ConcurrentHashMap.newKeySet();
+
+    @Value("${outbox.stream.key:oms:order-events}")
+    private String streamKey;
+
+    @Value("${sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${sse.replay-limit:1000}")
+    private int replayLimit;
+
+    @Value("${sse.send-queue-capacity:256}")
+    private int sendQueueCapacity;
+
+    @Value("${sse.writer-threads:4}")
+    private int writerThreads;
+
+    private ExecutorService writers;
+
+    public OrderEventBroadcaster(
+            StreamMessageListenerContainer<String, MapRecord<String, String, String>> container,
+            StringRedisTemplate redisTemplate,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry) {
+        this.container = container;
+        this.redisTemplate = redisTemplate;
+        this.userRepository = userRepository;
+        Gauge.builder("sse.connections", allSubscribers, Set::size)
+                .description("Open order event streams on this node")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        writers = Executors.newFixedThreadPool(writerThreads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        writers.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        container.register(StreamReadRequest.builder(StreamOffset.create(streamKey, ReadOffset.latest()))
+                .cancelOnError(e -> false)
+                .errorHandler(this::onReadError)
+                .build(), this::dispatch);
+        container.start();
+    }
+
+    /**
+     * Open a stream for the user; admins receive every order's events.
+     */
+    public SseEmitter subscribe(String email, boolean admin, String lastEventId) {
+        Long userId = userRepository.findByEmail(email)
+                .map(User::getId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
+
+        Subscriber subscriber = new Subscriber(userId, admin, new SseEmitter(timeoutMs), writers, sendQueueCapacity);
+        subscriber.emitter.onCompletion(() -> unregister(subscriber));
+        subscriber.emitter.onError(e -> unregister(subscriber));
+        subscriber.onFailure = () -> unregister(subscriber);
+        register(subscriber);
+
+        // Live events are queued until the replay is done, so the client sees ids in order
+        if (StringUtils.hasText(lastEventId)) {
+            try {
+                replay(subscriber, lastEventId);
+            } catch (RuntimeException e) {
+                unregister(subscriber);
+                throw e;
+            }
+        }
+        if (!subscriber.finishReplay()) {
+            unregister(subscriber);
+        }
+        return subscriber.emitter;
+    }
+
+    /**
+     * Comment frames keep idle connections open through proxies and detect dead clients.
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : allSubscribers) {
+            if (!subscriber.send(SseEmitter.event().comment("heartbeat"))) {
+                unregister(subscriber);
+            }
+        }
+    }
+
+    private void dispatch(MapRecord<String, String, String> record) {
+        OrderStatusEvent event;
+        try {
+            event = OrderOutboxService.toEvent(record.getValue());
+        } catch (RuntimeException e) {
+            log.warn("Skipping malformed order event {}: {}", record.getId(), e.getMessage());
+            return;
+        }
+
+        String id = record.getId().getValue();
+        for (Subscriber subscriber : subscribersByUser.getOrDefault(event.getUserId(), Set.of())) {
+            deliver(subscriber, id, event);
+        }
+        for (Subscriber subscriber : adminSubscribers) {
+            // Admins watching their own orders are registered once, as admins
+            deliver(subscriber, id, event);
+        }
+    }
+
+    private void deliver(Subscriber subscriber, String id, OrderStatusEvent event) {
+        if (!subscriber.deliver(id, event)) {
+            unregister(subscriber);
+        }
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        try {
+            RecordId.of(lastEventId);
+        } catch (IllegalArgumentException e) {
+            subscriber.resync("invalid Last-Event-ID");
+            return;
+        }
+
+        List<MapRecord<String, Object, Object>> missed = redisTemplate.opsForStream().range(
+                streamKey, Range.leftOpen(lastEventId, "+"), Limit.limit().count(replayLimit + 1));
+        if (missed == null || missed.size() > replayLimit) {
+            subscriber.resync("too many missed events");
+            return;
+        }
+
+        for (MapRecord<String, Object, Object> record : missed) {
+            OrderStatusEvent event = OrderOutboxService.toEvent(record.getValue());
+            if (subscriber.admin || subscriber.userId.equals(event.getUserId())) {
+                subscriber.replay(record.getId().getValue(), event);
+            }
+        }
+    }
+
+    private void register(Subscriber subscriber) {
+        allSubscribers.add(subscriber);
+        if (subscriber.admin) {
+            adminSubscribers.add(subscriber);
+        } else {
+            subscribersByUser.computeIfAbsent(subscriber.userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        if (!allSubscribers.remove(subscriber)) {
+            return;
+        }
+        adminSubscribers.remove(subscriber);
+        subscribersByUser.computeIfPresent(subscriber.userId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        subscriber.close();
+    }
+
+    private void onReadError(Throwable e) {
+        log.warn("Reading order event stream failed: {}", e.getMessage());
+        try {
+            // Back off instead of spinning while Redis is unavailable
+            Thread.sleep(1000);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final Long userId;
+        private final boolean admin;
+        private final SseEmitter emitter;
+        private final Executor writers;
+        private final int capacity;
+        private final Deque<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+        private volatile Runnable onFailure = () -> { };
+        private List<PendingEvent> pending = new ArrayList<>();
+        private RecordId lastSent;
+        private boolean draining;
+        private boolean closed;
+
+        private Subscriber(Long userId, boolean admin, SseEmitter emitter, Executor writers, int capacity) {
+            this.userId = userId;
+            this.admin = admin;
+            this.emitter = emitter;
+            this.writers = writers;
+            this.capacity = capacity;
+        }
+
+        synchronized boolean deliver(String id, OrderStatusEvent event) {
+            if (pending != null) {
+                pending.add(new PendingEvent(id, event));
+                return true;
+            }
+            return sendEvent(id, event, true);
+        }
+
+        /**
+         * Replayed events aren't held to the queue capacity; the replay limit bounds them.
+         */
+        synchronized void replay(String id, OrderStatusEvent event) {
+            sendEvent(id, event, false);
+        }
+
+        synchronized void resync(String reason) {
+            enqueue(SseEmitter.event().name(RESYNC_EVENT_NAME).data(reason), false);
+        }
+
+        synchronized boolean finishReplay() {
+            List<PendingEvent> queued = pending;
+            pending = null;
+            for (PendingEvent entry : queued) {
+                if (!sendEvent(entry.id(), entry.event(), false)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        synchronized boolean send(SseEmitter.SseEventBuilder event) {
+            return enqueue(event, true);
+        }
+
+        /**
+         * Stop sending; the emitter is completed by the writer once a send in
+         * progress returns, so this never waits for a slow client.
+         */
+        synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+            schedule();
+        }
+
+        private boolean sendEvent(String id, OrderStatusEvent event, boolean bounded) {
+            RecordId recordId = RecordId.of(id);
+            // Live entries that the replay already sent
+            if (lastSent != null && compare(recordId, lastSent) <= 0) {
+                return true;
+            }
+            lastSent = recordId;
+            return enqueue(SseEmitter.event().id(id).name(EVENT_NAME).data(event, MediaType.APPLICATION_JSON), bounded);
+        }
+
+        private boolean enqueue(SseEmitter.SseEventBuilder event, boolean bounded) {
+            if (closed || (bounded && queue.size() >= capacity)) {
+                return false;
+            }
+            queue.add(event);
+            schedule();
+            return true;
+        }
+
+        private void schedule() {
+            if (!draining) {
+                draining = true;
+                writers.execute(this::drain);
+            }
+        }
+
+        /**
+         * Runs on a writer thread; sends outside the lock so producers never block.
+         */
+        private void drain() {
+            for (;;) {
+                SseEmitter.SseEventBuilder next;
+                synchronized (this) {
+                    if (closed) {
+                        draining = false;
+                        break;
+                    }
+                    next = queue.poll();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(next);
+                } catch (IOException | IllegalStateException e) {
+                    synchronized (this) {
+                        draining = false;
+                    }
+                    onFailure.run();
+                    return;
+                }
+            }
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // Already completed by the container
+            }
+        }
+
+        private static int compare(RecordId a, RecordId b) {
+            int byTime = Long.compare(a.getTimestamp(), b.getTimestamp());
+            return byTime != 0 ? byTime : Long.compare(a.getSequence(), b.getSequence());
+        }
+    }
+
+    private record PendingEvent(String id, OrderStatusEvent event) {
+    }
+}
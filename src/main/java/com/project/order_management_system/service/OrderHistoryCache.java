@@ -0,0 +1,189 @@
+package com.project.order_management_system.service;
+
+import com.project.order_management_system.config.RedisCacheProperties;
+import com.project.order_management_system.config.RedisConfig;
+import com.project.order_management_system.config.RequestCost;
+import com.project.order_management_system.dto.OrderResponse;
+import com.project.order_management_system.entity.Order;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * User order history as an index plus per-order entries: "userOrders" maps a
+ * user id to the ids of their orders, and each order lives once in the
+ * "orders" cache under its id (the same entry getOrderById uses). A history
+ * read is one MGET for all entries, and only the missing ones are loaded from
+ * the database, so changing one order only invalidates that order's entry.
+ * <p>
+ * The MGET goes through the RedisTemplate, so the "orders" cache must keep
+ * compression disabled (app.cache.redis.caches.orders.compression-threshold=0).
+ * Writes and evictions go through the cache manager and so happen after commit;
+ * the index itself is evicted by createOrder, the only change to membership.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderHistoryCache {
+
+    static final String ORDERS = "orders";
+    static final String USER_ORDERS = "userOrders";
+
+    private final CacheManager cacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisCacheProperties cacheProperties;
+
+    /**
+     * Returns the cached order ids of the user, or null when the index is not cached.
+     */
+    public List<Long> getOrderIds(Long userId) {
+        Cache.ValueWrapper cached = cache(USER_ORDERS).get(userId);
+        if (cached == null || !(cached.get() instanceof List<?> values)) {
+            return null;
+        }
+        List<Long> orderIds = new ArrayList<>(values.size());
+        for (Object value : values) {
+            // Small ids come back from JSON as Integer; anything else is an entry from the old layout
+            if (!(value instanceof Number number)) {
+                return null;
+            }
+            orderIds.add(number.longValue());
+        }
+        return orderIds;
+    }
+
+    /**
+     * Caches a freshly loaded history: the id index and every order entry.
+     */
+    public void putHistory(Long userId, List<OrderResponse> orders) {
+        Cache orderCache = cache(ORDERS);
+        List<Long> orderIds = new ArrayList<>(orders.size());
+        for (OrderResponse order : orders) {
+            orderIds.add(order.getId());
+            orderCache.put(order.getId(), order);
+        }
+        cache(USER_ORDERS).put(userId, orderIds);
+    }
+
+    /**
+     * Resolves the orders of an index with a single MGET, loading the misses
+     * with one call to {@code loader}. Ids the loader no longer finds are dropped.
+     */
+    public List<OrderResponse> getOrders(List<Long> orderIds,
+                                         Function<Collection<Long>, List<OrderResponse>> loader) {
+        if (orderIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, OrderResponse> found = multiGet(orderIds);
+
+        List<Long> missing = orderIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            log.info("Loading {} of {} history orders from database", missing.size(), orderIds.size());
+            Cache orderCache = cache(ORDERS);
+            for (OrderResponse order : loader.apply(missing)) {
+                found.put(order.getId(), order);
+                orderCache.put(order.getId(), order);
+            }
+        }
+
+        return orderIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Drops the cached entries of one order; the owner's index stays valid.
+     */
+    public void evictOrder(Order order) {
+        Cache orderCache = cache(ORDERS);
+        orderCache.evict(order.getId());
+        orderCache.evict("orderNumber:" + order.getOrderNumber());
+    }
+
+    /**
+     * Drops the cached entries of many orders with a single DEL after commit,
+     * instead of two deferred evictions per order.
+     */
+    public void evictOrders(Collection<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        String prefix = RedisConfig.keyPrefix(cacheProperties.spec(ORDERS), ORDERS);
+        List<String> keys = new ArrayList<>(orders.size() * 2);
+        for (Order order : orders) {
+            keys.add(prefix + order.getId());
+            keys.add(prefix + "orderNumber:" + order.getOrderNumber());
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delete(keys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                delete(keys);
+            }
+        });
+    }
+
+    private void delete(List<String> keys) {
+        long start = System.nanoTime();
+        try {
+            redisTemplate.delete(keys);
+            RequestCost.redisWrite(System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            // Entries expire with the cache TTL; a failed eviction must not fail the committed update
+            log.warn("Could not evict {} cached orders: {}", keys.size() / 2, e.getMessage());
+        }
+    }
+
+    private Map<Long, OrderResponse> multiGet(List<Long> orderIds) {
+        String prefix = RedisConfig.keyPrefix(cacheProperties.spec(ORDERS), ORDERS);
+        List<String> keys = orderIds.stream()
+                .map(id -> prefix + id)
+                .collect(Collectors.toList());
+
+        Map<Long, OrderResponse> found = new HashMap<>();
+        List<Object> values;
+        long start = System.nanoTime();
+        try {
+            values = redisTemplate.opsForValue().multiGet(keys);
+        } catch (SerializationException e) {
+            log.warn("Could not read cached history orders, loading all from database: {}", e.getMessage());
+            return found;
+        }
+        if (values == null) {
+            return found;
+        }
+        for (int i = 0; i < orderIds.size(); i++) {
+            if (values.get(i) instanceof OrderResponse order) {
+                found.put(orderIds.get(i), order);
+            }
+        }
+        RequestCost.redisRead(System.nanoTime() - start, found.size());
+        return found;
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+}
@@ -0,0 +1,166 @@
+package com.project.order_management_system.service;
+
+import com.project.order_management_system.dto.OrderStatusEvent;
+import com.project.order_management_system.entity.Order;
+import com.project.order_management_system.entity.OrderEventType;
+import com.project.order_management_system.entity.OrderStatus;
+import com.project.order_management_system.entity.OutboxEvent;
+import com.project.order_management_system.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transactional outbox for order lifecycle events. {@link #record} stores the
+ * event with the order change, so an event exists exactly when the change
+ * committed; {@link #publishBatch} relays stored events to a Redis Stream.
+ * Delivery is at least once: if the commit after XADD fails the batch is sent
+ * again, so consumers de-duplicate on the eventId field.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderOutboxService {
+
+    // Any constant works, it only has to be the same on every node
+    private static final long RELAY_LOCK_KEY = 0x6f6d732d6f7574L;
+
+    private final OutboxEventRepository outboxRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${outbox.stream.key:oms:order-events}")
+    private String streamKey;
+
+    @Value("${outbox.stream.max-length:1000000}")
+    private long maxLength;
+
+    /**
+     * Store a lifecycle event; must join the transaction that changes the order.
+     * A null {@code previousStatus} marks a newly created order; its event also
+     * carries the customer and item count, so order lists can show it as is.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Order order, OrderStatus previousStatus, OrderStatus status) {
+        OrderEventType type = previousStatus == null ? OrderEventType.CREATED
+                : status == OrderStatus.CANCELLED ? OrderEventType.CANCELLED
+                : OrderEventType.STATUS_CHANGED;
+
+        OutboxEvent.OutboxEventBuilder event = OutboxEvent.builder()
+                .type(type)
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .userId(order.getUser().getId())
+                .previousStatus(previousStatus)
+                .status(status)
+                .totalAmount(order.getTotalAmount().toBigDecimal());
+        if (type == OrderEventType.CREATED) {
+            event.userName(order.getUser().getName())
+                    .userEmail(order.getUser().getEmail())
+                    .itemCount(order.getItems().size());
+        }
+        outboxRepository.save(event.build());
+    }
+
+    /**
+     * Publish the oldest unpublished events with one pipelined round trip of
+     * XADDs, then mark them published. Returns 0 without doing anything while
+     * another node holds the relay lock.
+     *
+     * @return number of events published
+     */
+    @Transactional
+    public int publishBatch(int batchSize) {
+        if (!outboxRepository.tryRelayLock(RELAY_LOCK_KEY)) {
+            return 0;
+        }
+
+        List<OutboxEvent> events = outboxRepository.findUnpublished(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        byte[] key = streamKey.getBytes(StandardCharsets.UTF_8);
+        XAddOptions options = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (OutboxEvent event : events) {
+                connection.streamCommands().xAdd(MapRecord.create(key, toFields(event)), options);
+            }
+            return null;
+        });
+
+        outboxRepository.markPublished(events.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+        log.debug("Published {} order events up to id {}", events.size(), events.get(events.size() - 1).getId());
+        return events.size();
+    }
+
+    /**
+     * Delete events that were published before the cutoff.
+     */
+    @Transactional
+    public int purgePublishedBefore(LocalDateTime cutoff) {
+        return outboxRepository.deletePublishedBefore(cutoff);
+    }
+
+    /**
+     * Reads an entry of the order event stream back into an event.
+     */
+    public static OrderStatusEvent toEvent(Map<?, ?> fields) {
+        Object previousStatus = fields.get("previousStatus");
+        Object totalAmount = fields.get("totalAmount");
+        Object userName = fields.get("userName");
+        Object userEmail = fields.get("userEmail");
+        Object itemCount = fields.get("itemCount");
+        return OrderStatusEvent.builder()
+                .eventId(Long.valueOf(fields.get("eventId").toString()))
+                .type(OrderEventType.valueOf(fields.get("type").toString()))
+                .orderId(Long.valueOf(fields.get("orderId").toString()))
+                .orderNumber(String.valueOf(fields.get("orderNumber")))
+                .userId(Long.valueOf(fields.get("userId").toString()))
+                .previousStatus(previousStatus != null ? OrderStatus.valueOf(previousStatus.toString()) : null)
+                .status(OrderStatus.valueOf(fields.get("status").toString()))
+                .totalAmount(totalAmount != null ? new BigDecimal(totalAmount.toString()) : null)
+                .userName(userName != null ? userName.toString() : null)
+                .userEmail(userEmail != null ? userEmail.toString() : null)
+                .itemCount(itemCount != null ? Integer.valueOf(itemCount.toString()) : null)
+                .occurredAt(String.valueOf(fields.get("occurredAt")))
+                .build();
+    }
+
+    private static Map<byte[], byte[]> toFields(OutboxEvent event) {
+        Map<byte[], byte[]> fields = new LinkedHashMap<>();
+        put(fields, "eventId", event.getId());
+        put(fields, "type", event.getType());
+        put(fields, "orderId", event.getOrderId());
+        put(fields, "orderNumber", event.getOrderNumber());
+        put(fields, "userId", event.getUserId());
+        put(fields, "previousStatus", event.getPreviousStatus());
+        put(fields, "status", event.getStatus());
+        put(fields, "totalAmount", event.getTotalAmount());
+        put(fields, "userName", event.getUserName());
+        put(fields, "userEmail", event.getUserEmail());
+        put(fields, "itemCount", event.getItemCount());
+        put(fields, "occurredAt", event.getCreatedAt());
+        return fields;
+    }
+
+    private static void put(Map<byte[], byte[]> fields, String name, Object value) {
+        if (value != null) {
+            fields.put(name.getBytes(StandardCharsets.UTF_8), value.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.order_management_system.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * "orderPartitions" health: DOWN once the monthly orders partitions no longer
+ * reach {@code archive.min-partitions-ahead-months} past the current month,
+ * i.e. when OrderArchiveScheduler has been failing to create them. New orders
+ * still go to orders_default meanwhile, but that only buys time.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderPartitionsHealthIndicator extends AbstractHealthIndicator {
+
+    private final OrderArchiveService archiveService;
+
+    @Value("${archive.min-partitions-ahead-months:1}")
+    private int minMonthsAhead;
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        LocalDateTime required = YearMonth.now().plusMonths(minMonthsAhead + 1L).atDay(1).atStartOfDay();
+        LocalDateTime until = archiveService.partitionedUntil().orElse(null);
+
+        if (until != null && !until.isBefore(required)) {
+            builder.up();
+        } else {
+            builder.down();
+        }
+        builder.withDetail("partitionedUntil", until != null ? until.toString() : "none")
+                .withDetail("required", required.toString())
+                .withDetail("ordersInDefaultPartition", archiveService.countInDefaultPartition());
+    }
+}
@@ -1,6 +1,9 @@
 package com.project.order_management_system.service;
 
+import com.project.order_management_system.dto.BulkStatusUpdateRequest;
+import com.project.order_management_system.dto.BulkStatusUpdateResponse;
 import com.project.order_management_system.dto.CreateOrderRequest;
+import com.project.order_management_system.dto.OrderItemRequest;
 import com.project.order_management_system.dto.OrderResponse;
 import com.project.order_management_system.entity.*;
 import com.project.order_management_system.exception.InsufficientStockException;
@@ -8,6 +11,7 @@ import com.project.order_management_system.exception.ResourceNotFoundException;
 import com.project.order_management_system.repository.OrderRepository;
 import com.project.order_management_system.repository.ProductRepository;
 import com.project.order_management_system.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -15,8 +19,16 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -28,8 +40,15 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
-
-    @CacheEvict(value = { "orders", "userOrders", "products" }, allEntries = true)
+    private final StockReservationService reservationService;
+    private final SalesAnalyticsService analyticsService;
+    private final OrderHistoryCache orderHistoryCache;
+    private final OrderOutboxService outboxService;
+    private final OrderArchiveService archiveService;
+    private final ProductService productService;
+
+    @Timed(value = "orders.create", percentiles = { 0.5, 0.99, 0.999 }, histogram = true)
+    @CacheEvict(value = "userOrders", key = "#request.userId")
     @Transactional
     public OrderResponse createOrder(CreateOrderRequest request) {
         log.info("Creating order for user ID: {}", request.getUserId());
@@ -45,13 +64,21 @@ public class OrderService {
                 .status(OrderStatus.PENDING)
                 .shippingAddress(request.getShippingAddress())
                 .notes(request.getNotes())
-                .totalAmount(BigDecimal.ZERO)
+                .totalAmount(Money.ZERO)
                 .build();
 
-        // 3. Process each order item
+        // 3. Lock the ordered products: stock is read from the database, not the second-level cache
+        Map<Long, Product> products = productRepository.findAllForUpdate(request.getItems().stream()
+                        .map(OrderItemRequest::getProductId)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Product::getId, product -> product));
+
+        // 4. Process each order item
         for (var itemRequest : request.getItems()) {
-            Product product = productRepository.findById(itemRequest.getProductId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Product", "id", itemRequest.getProductId()));
+            Product product = products.get(itemRequest.getProductId());
+            if (product == null) {
+                throw new ResourceNotFoundException("Product", "id", itemRequest.getProductId());
+            }
 
             // Check stock availability
             if (product.getStock() < itemRequest.getQuantity()) {
@@ -64,12 +91,11 @@ public class OrderService {
             // Deduct stock
             product.setStock(product.getStock() - itemRequest.getQuantity());
             productRepository.save(product);
-            // Note: Product cache is now evicted because we added "products" to CacheEvict
 
             // Create order item with EXPLICIT subtotal calculation
-            BigDecimal itemPrice = product.getPrice();
+            Money itemPrice = Money.of(product.getPrice());
             Integer itemQuantity = itemRequest.getQuantity();
-            BigDecimal itemSubtotal = itemPrice.multiply(BigDecimal.valueOf(itemQuantity));
+            Money itemSubtotal = itemPrice.times(itemQuantity);
 
             OrderItem orderItem = OrderItem.builder()
                     .product(product)
@@ -81,11 +107,19 @@ public class OrderService {
             order.addItem(orderItem);
         }
 
-        // 4. Calculate total
+        // Only the ordered products and the lists holding them are stale now
+        productService.evictStock(products.values());
+
+        // 5. Calculate total
         order.calculateTotal();
 
-        // 5. Save order
+        // 6. Save order
         Order savedOrder = orderRepository.save(order);
+
+        // 7. Hold the deducted stock until the order is confirmed or the reservation expires
+        reservationService.hold(savedOrder);
+        analyticsService.recordOrderCreated(savedOrder);
+        outboxService.record(savedOrder, null, OrderStatus.PENDING);
         log.info("Order created successfully with order number: {}", savedOrder.getOrderNumber());
 
         return mapToOrderResponse(savedOrder);
@@ -96,10 +130,11 @@ public class OrderService {
     public OrderResponse getOrderById(Long id) {
         log.info("Fetching order with ID: {} from database", id);
 
-        Order order = orderRepository.findById(id)
+        // Closed orders past the retention period have moved to the archive
+        return orderRepository.findById(id)
+                .map(OrderService::mapToOrderResponse)
+                .or(() -> archiveService.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", id));
-
-        return mapToOrderResponse(order);
     }
 
     @Cacheable(value = "orders", key = "'orderNumber:' + #orderNumber")
@@ -107,62 +142,168 @@ public class OrderService {
     public OrderResponse getOrderByOrderNumber(String orderNumber) {
         log.info("Fetching order with order number: {} from database", orderNumber);
 
-        Order order = orderRepository.findByOrderNumber(orderNumber)
+        return orderRepository.findByOrderNumber(orderNumber)
+                .map(OrderService::mapToOrderResponse)
+                .or(() -> archiveService.findByOrderNumber(orderNumber))
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "orderNumber", orderNumber));
-
-        return mapToOrderResponse(order);
     }
 
-    @Cacheable(value = "userOrders", key = "#userId")
     @Transactional(readOnly = true)
     public List<OrderResponse> getOrdersByUserId(Long userId) {
+        // Cached index: fetch the order entries in one MGET and load only the missing ones
+        List<Long> orderIds = orderHistoryCache.getOrderIds(userId);
+        if (orderIds != null) {
+            return orderHistoryCache.getOrders(orderIds, this::loadOrders);
+        }
+
         log.info("Fetching orders for user ID: {} from database", userId);
 
         // Validate user exists
         userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
-        List<Order> orders = orderRepository.findByUserId(userId);
+        List<OrderResponse> orders = new ArrayList<>(archiveService.findByUserId(userId));
+        orderRepository.findWithItemsByUserId(userId).stream()
+                .map(OrderService::mapToOrderResponse)
+                .forEach(orders::add);
+        orders.sort(Comparator.comparing(OrderResponse::getId));
+        orderHistoryCache.putHistory(userId, orders);
 
-        return orders.stream()
-                .map(this::mapToOrderResponse)
-                .collect(Collectors.toList());
+        return orders;
     }
 
     @Transactional(readOnly = true)
     public List<OrderResponse> getAllOrders() {
         log.info("Fetching all orders");
 
-        return orderRepository.findAll().stream()
-                .map(this::mapToOrderResponse)
+        return orderRepository.findAllWithItems().stream()
+                .map(OrderService::mapToOrderResponse)
                 .collect(Collectors.toList());
     }
 
-    @CacheEvict(value = { "orders", "userOrders" }, allEntries = true)
     @Transactional
     public OrderResponse updateOrderStatus(Long id, OrderStatus newStatus) {
         log.info("Updating order {} to status: {}, evicting cache", id, newStatus);
 
+        // Cancelling hands back stock and releases reservations, whatever the current status
+        if (newStatus == OrderStatus.CANCELLED) {
+            cancelOrder(id);
+            return orderRepository.findById(id)
+                    .map(OrderService::mapToOrderResponse)
+                    .orElseThrow(() -> new ResourceNotFoundException("Order", "id", id));
+        }
+
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", id));
+        // Only this order's entries go stale, the user's history index stays valid
+        orderHistoryCache.evictOrder(order);
 
         // Validate status transition (business logic)
         validateStatusTransition(order.getStatus(), newStatus);
 
+        // Leaving PENDING for fulfilment makes the reserved stock permanent
+        if (order.getStatus() == OrderStatus.PENDING && newStatus != OrderStatus.FAILED) {
+            reservationService.convert(id);
+        }
+
+        OrderStatus previousStatus = order.getStatus();
+        analyticsService.recordStatusChange(previousStatus, newStatus);
         order.setStatus(newStatus);
         Order updatedOrder = orderRepository.save(order);
+        outboxService.record(updatedOrder, previousStatus, newStatus);
 
         log.info("Order {} status updated to: {}", id, newStatus);
 
         return mapToOrderResponse(updatedOrder);
     }
 
-    @CacheEvict(value = { "orders", "userOrders", "products" }, allEntries = true)
+    /**
+     * Move many orders to one status in a single transaction. Every order is
+     * checked against the transition table and gets its own outcome; the valid
+     * ones are updated with one set-based UPDATE and their cache entries dropped
+     * with one DEL after commit. Cancelling is not offered in bulk, since it has
+     * to hand back stock per order (DELETE /api/v1/orders/{id}).
+     */
+    @Transactional
+    public BulkStatusUpdateResponse bulkUpdateStatus(BulkStatusUpdateRequest request) {
+        OrderStatus newStatus = request.getStatus();
+        if (newStatus == OrderStatus.CANCELLED) {
+            throw new IllegalArgumentException("Orders can't be cancelled in bulk");
+        }
+
+        List<Long> ids = request.getOrderIds().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        log.info("Bulk updating {} orders to status: {}", ids.size(), newStatus);
+
+        // Row locks keep the statuses checked below valid until the UPDATE; reservations are
+        // locked before orders, in the same order as cancelOrder and the expiry sweep
+        reservationService.lockHeld(ids);
+        Map<Long, Order> ordersById = orderRepository.findAllForUpdate(ids).stream()
+                .collect(Collectors.toMap(Order::getId, order -> order));
+
+        List<BulkStatusUpdateResponse.Result> results = new ArrayList<>(ids.size());
+        List<Order> updated = new ArrayList<>();
+        for (Long id : ids) {
+            Order order = ordersById.get(id);
+            BulkStatusUpdateResponse.Outcome outcome = bulkOutcome(order, newStatus);
+            if (outcome == BulkStatusUpdateResponse.Outcome.UPDATED) {
+                updated.add(order);
+            }
+            results.add(BulkStatusUpdateResponse.Result.builder()
+                    .orderId(id)
+                    .outcome(outcome)
+                    .previousStatus(order != null ? order.getStatus() : null)
+                    .build());
+        }
+
+        if (!updated.isEmpty()) {
+            applyBulkUpdate(updated, newStatus);
+        }
+
+        log.info("Bulk status update to {}: {} of {} orders updated", newStatus, updated.size(), ids.size());
+        return BulkStatusUpdateResponse.builder()
+                .status(newStatus)
+                .updated(updated.size())
+                .rejected(ids.size() - updated.size())
+                .results(results)
+                .build();
+    }
+
+    private void applyBulkUpdate(List<Order> orders, OrderStatus newStatus) {
+        List<Long> ids = new ArrayList<>(orders.size());
+        List<Long> pendingIds = new ArrayList<>();
+        Map<OrderStatus, Integer> countsByFrom = new EnumMap<>(OrderStatus.class);
+        for (Order order : orders) {
+            ids.add(order.getId());
+            countsByFrom.merge(order.getStatus(), 1, Integer::sum);
+            if (order.getStatus() == OrderStatus.PENDING) {
+                pendingIds.add(order.getId());
+            }
+        }
+
+        // Leaving PENDING for fulfilment makes the reserved stock permanent
+        if (!pendingIds.isEmpty() && newStatus != OrderStatus.FAILED) {
+            reservationService.convertAll(pendingIds);
+        }
+        orderRepository.updateStatusForIds(ids, OrderStatusTransitions.sourcesOf(newStatus),
+                newStatus, LocalDateTime.now());
+        analyticsService.recordStatusChanges(countsByFrom, newStatus);
+        for (Order order : orders) {
+            outboxService.record(order, order.getStatus(), newStatus);
+        }
+        orderHistoryCache.evictOrders(orders);
+    }
+
     @Transactional
     public void cancelOrder(Long id) {
-        log.info("Cancelling order: {}, evicting cache", id);
+        log.info("Cancelling order: {}", id);
 
-        Order order = orderRepository.findById(id)
+        // Claim the reservations before reading the order: the expiry sweep also locks reservations
+        // first, so whichever gets them hands the stock back, and only once
+        Map<Long, Integer> quantityByProduct = reservationService.release(id);
+        Order order = orderRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", id));
 
         // Only allow cancellation if order is not shipped or delivered
@@ -170,44 +311,81 @@ public class OrderService {
                 order.getStatus() == OrderStatus.DELIVERED) {
             throw new IllegalStateException("Cannot cancel order that is already " + order.getStatus());
         }
+        if (order.getStatus() == OrderStatus.CANCELLED) {
+            throw new IllegalStateException("Order is already cancelled");
+        }
 
-        // Restore stock for each item
-        for (OrderItem item : order.getItems()) {
-            Product product = item.getProduct();
-            product.setStock(product.getStock() + item.getQuantity());
-            productRepository.save(product);
+        // Orders placed before stock reservations existed: restore from the items
+        if (quantityByProduct.isEmpty() && !reservationService.hasReservations(id)) {
+            for (OrderItem item : order.getItems()) {
+                quantityByProduct.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum);
+            }
         }
+        // Incremented in the database: the loaded products may come from the second-level cache
+        quantityByProduct.forEach(productRepository::incrementStock);
+        productService.evictStock(order.getItems().stream().map(OrderItem::getProduct).toList());
 
+        OrderStatus previousStatus = order.getStatus();
+        analyticsService.recordCancellation(order, previousStatus);
         order.setStatus(OrderStatus.CANCELLED);
         orderRepository.save(order);
+        outboxService.record(order, previousStatus, OrderStatus.CANCELLED);
+        orderHistoryCache.evictOrder(order);
 
         log.info("Order {} cancelled successfully", id);
     }
 
-    // Helper methods
+    // Helper methods (package-private static ones are also driven by the JMH benchmarks)
+
+    private List<OrderResponse> loadOrders(Collection<Long> ids) {
+        List<OrderResponse> orders = orderRepository.findWithItemsByIdIn(ids).stream()
+                .map(OrderService::mapToOrderResponse)
+                .collect(Collectors.toList());
+        if (orders.size() < ids.size()) {
+            Set<Long> found = orders.stream().map(OrderResponse::getId).collect(Collectors.toSet());
+            orders.addAll(archiveService.findByIds(ids.stream()
+                    .filter(id -> !found.contains(id))
+                    .collect(Collectors.toList())));
+        }
+        return orders;
+    }
 
-    private String generateOrderNumber() {
+    static String generateOrderNumber() {
         return "ORD-" + System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
     }
 
-    private void validateStatusTransition(OrderStatus currentStatus, OrderStatus newStatus) {
-        // Define valid transitions
-        if (currentStatus == OrderStatus.CANCELLED || currentStatus == OrderStatus.DELIVERED) {
-            throw new IllegalStateException("Cannot change status of " + currentStatus + " order");
+    /**
+     * Outcome of moving one order of a bulk update to {@code newStatus}; a null
+     * order was not found.
+     */
+    static BulkStatusUpdateResponse.Outcome bulkOutcome(Order order, OrderStatus newStatus) {
+        if (order == null) {
+            return BulkStatusUpdateResponse.Outcome.NOT_FOUND;
+        }
+        if (order.getStatus() == newStatus) {
+            return BulkStatusUpdateResponse.Outcome.UNCHANGED;
+        }
+        if (!OrderStatusTransitions.isAllowed(order.getStatus(), newStatus)) {
+            return BulkStatusUpdateResponse.Outcome.INVALID_TRANSITION;
         }
+        return BulkStatusUpdateResponse.Outcome.UPDATED;
+    }
 
-        // Add more validation rules as needed
+    private void validateStatusTransition(OrderStatus currentStatus, OrderStatus newStatus) {
+        if (!OrderStatusTransitions.isAllowed(currentStatus, newStatus)) {
+            throw new IllegalStateException("Cannot change status of " + currentStatus + " order to " + newStatus);
+        }
     }
 
-    private OrderResponse mapToOrderResponse(Order order) {
+    static OrderResponse mapToOrderResponse(Order order) {
         List<OrderResponse.OrderItemResponse> itemResponses = order.getItems().stream()
                 .map(item -> OrderResponse.OrderItemResponse.builder()
                         .id(item.getId())
                         .productId(item.getProduct().getId())
                         .productName(item.getProduct().getName())
                         .quantity(item.getQuantity())
-                        .price(item.getPrice())
-                        .subtotal(item.getSubtotal())
+                        .price(item.getPrice().toBigDecimal())
+                        .subtotal(item.getSubtotal().toBigDecimal())
                         .build())
                 .collect(Collectors.toList());
 
@@ -218,7 +396,7 @@ public class OrderService {
                 .userName(order.getUser().getName())
                 .userEmail(order.getUser().getEmail())
                 .items(itemResponses)
-                .totalAmount(order.getTotalAmount())
+                .totalAmount(order.getTotalAmount().toBigDecimal())
                 .status(order.getStatus())
                 .shippingAddress(order.getShippingAddress())
                 .notes(order.getNotes())
@@ -0,0 +1,64 @@
+package com.project.order_management_system.service;
+
+import com.project.order_management_system.entity.OrderStatus;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Order lifecycle state machine. DELIVERED and CANCELLED are terminal; FAILED
+ * orders can only be cancelled. Staying in the same status is not a transition.
+ */
+final class OrderStatusTransitions {
+
+    private static final Map<OrderStatus, Set<OrderStatus>> ALLOWED = new EnumMap<>(OrderStatus.class);
+    private static final Map<OrderStatus, Set<OrderStatus>> SOURCES = new EnumMap<>(OrderStatus.class);
+
+    static {
+        allow(OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.PROCESSING, OrderStatus.CANCELLED, OrderStatus.FAILED);
+        allow(OrderStatus.CONFIRMED, OrderStatus.PROCESSING, OrderStatus.SHIPPED, OrderStatus.CANCELLED, OrderStatus.FAILED);
+        allow(OrderStatus.PROCESSING, OrderStatus.SHIPPED, OrderStatus.CANCELLED, OrderStatus.FAILED);
+        allow(OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+        allow(OrderStatus.FAILED, OrderStatus.CANCELLED);
+        allow(OrderStatus.DELIVERED);
+        allow(OrderStatus.CANCELLED);
+    }
+
+    private OrderStatusTransitions() {
+    }
+
+    static boolean isAllowed(OrderStatus from, OrderStatus to) {
+        return ALLOWED.get(from).contains(to);
+    }
+
+    /**
+     * Statuses an order may be in to move to {@code to}, for set-based updates.
+     */
+    static Set<OrderStatus> sourcesOf(OrderStatus to) {
+        return SOURCES.getOrDefault(to, Collections.emptySet());
+    }
+
+    /**
+     * Statuses an order never leaves again.
+     */
+    static Set<OrderStatus> terminal() {
+        Set<OrderStatus> terminal = EnumSet.noneOf(OrderStatus.class);
+        ALLOWED.forEach((status, targets) -> {
+            if (targets.isEmpty()) {
+                terminal.add(status);
+            }
+        });
+        return terminal;
+    }
+
+    private static void allow(OrderStatus from, OrderStatus... targets) {
+        Set<OrderStatus> allowed = targets.length == 0 ? EnumSet.noneOf(OrderStatus.class) : EnumSet.of(targets[0], targets);
+        ALLOWED.put(from, Collections.unmodifiableSet(allowed));
+        for (OrderStatus to : targets) {
+            SOURCES.computeIfAbsent(to, status -> EnumSet.noneOf(OrderStatus.class)).add(from);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.project.order_management_system.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelayScheduler {
+
+    private final OrderOutboxService outboxService;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${outbox.stream.key:oms:order-events}")
+    private String streamKey;
+
+    @Value("${outbox.stream.groups:}")
+    private List<String> groups;
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${outbox.retention-hours:24}")
+    private long retentionHours;
+
+    /**
+     * Create the configured consumer groups so no event is missed before a
+     * consumer first connects. Groups that already exist are left as they are.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createConsumerGroups() {
+        for (String group : groups) {
+            try {
+                redisTemplate.opsForStream().createGroup(streamKey, ReadOffset.from("0"), group);
+                log.info("Created consumer group '{}' on stream {}", group, streamKey);
+            } catch (Exception e) {
+                // BUSYGROUP: created earlier or by another node
+                log.debug("Consumer group '{}' not created: {}", group, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Relay batch by batch, each in its own transaction; a Redis outage leaves
+     * the events in the outbox for the next run.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        int total = 0;
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int published = outboxService.publishBatch(batchSize);
+                total += published;
+                if (published < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Outbox relay stopped after {} events: {}", total, e.getMessage());
+        }
+        if (total > 0) {
+            log.debug("Outbox relay published {} events", total);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        int deleted = outboxService.purgePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.info("Purged {} published outbox events", deleted);
+        }
+    }
+}
@@ -5,11 +5,14 @@ import com.project.order_management_system.exception.ResourceNotFoundException;
 import com.project.order_management_system.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -18,6 +21,7 @@ import java.util.List;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final CacheManager cacheManager;
 
     @Cacheable(value = "products", key = "'all'")
     @Transactional(readOnly = true)
@@ -67,4 +71,22 @@ public class ProductService {
         log.info("Updating product with ID: {}, evicting cache", product.getId());
         return productRepository.save(product);
     }
-}
\ No newline at end of file
+
+    /**
+     * Evicts the "products" entries a stock change of these products makes
+     * stale: their own entries and the list views holding them. Unlike
+     * clearing the cache, this leaves the other entries in place and does not
+     * trigger a background warm-up. Deferred to commit like @CacheEvict.
+     */
+    public void evictStock(Collection<Product> products) {
+        Cache cache = cacheManager.getCache("products");
+        if (cache == null || products.isEmpty()) {
+            return;
+        }
+        cache.evict("all");
+        cache.evict("active");
+        products.stream().map(Product::getCategory).distinct()
+                .forEach(category -> cache.evict("category:" + category));
+        products.forEach(product -> cache.evict(product.getId()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.order_management_system.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationExpiryScheduler {
+
+    private final StockReservationService reservationService;
+
+    @Value("${reservation.release-batch-size:500}")
+    private int batchSize;
+
+    @Value("${reservation.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    /**
+     * Drain expired reservations batch by batch, each in its own transaction,
+     * so a large backlog never holds locks on thousands of rows at once.
+     */
+    @Scheduled(fixedDelayString = "${reservation.sweep-interval-ms:30000}")
+    public void releaseExpired() {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int released = reservationService.releaseExpiredBatch(batchSize);
+            total += released;
+            if (released < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Reservation sweep released {} reservations", total);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.project.order_management_system.service;
+
+import com.project.order_management_system.entity.OrderStatus;
+import com.project.order_management_system.entity.RollupDimension;
+import com.project.order_management_system.entity.SalesRollup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Partial sales aggregate for a range of orders. Counters are kept as
+ * long[]{orderCount, units, revenueCents} so rows are folded in without
+ * allocating a BigDecimal each; conversion happens once in {@link #toRollups()}.
+ * Semantics match {@link SalesAnalyticsService}: cancelled orders only count
+ * towards the STATUS dimension.
+ *
+ * Not thread safe: each fork/join leaf owns one and results are merged.
+ */
+class RollupAccumulator {
+
+    private static final int ORDERS = 0;
+    private static final int UNITS = 1;
+    private static final int CENTS = 2;
+
+    private final Map<String, long[]> days = new HashMap<>();
+    private final Map<Long, long[]> products = new HashMap<>();
+    private final Map<Long, String> productNames = new HashMap<>();
+    private final Map<String, long[]> categories = new HashMap<>();
+    private final long[] total = new long[3];
+    private final long[] statusCounts = new long[OrderStatus.values().length];
+
+    private long rows;
+
+    // State of the order currently being streamed; rows arrive ordered by order id
+    private long currentOrderId = Long.MIN_VALUE;
+    private boolean currentCounted;
+    private long[] currentDay;
+    private final Set<String> currentCategories = new HashSet<>();
+
+    /**
+     * Fold one order line (or an order without items, productId == null) into the aggregate.
+     */
+    void accept(long orderId, String status, String day,
+                Long productId, String productName, String category,
+                int quantity, long subtotalCents) {
+        rows++;
+
+        if (orderId != currentOrderId) {
+            currentOrderId = orderId;
+            currentCategories.clear();
+
+            OrderStatus orderStatus = OrderStatus.valueOf(status);
+            statusCounts[orderStatus.ordinal()]++;
+            currentCounted = orderStatus != OrderStatus.CANCELLED;
+            if (currentCounted) {
+                currentDay = days.computeIfAbsent(day, d -> new long[3]);
+                currentDay[ORDERS]++;
+                total[ORDERS]++;
+            }
+        }
+
+        if (!currentCounted || productId == null) {
+            return;
+        }
+
+        long[] product = products.computeIfAbsent(productId, id -> new long[3]);
+        product[ORDERS]++;
+        product[UNITS] += quantity;
+        product[CENTS] += subtotalCents;
+        productNames.putIfAbsent(productId, productName);
+
+        long[] cat = categories.computeIfAbsent(category, c -> new long[3]);
+        if (currentCategories.add(category)) {
+            cat[ORDERS]++;
+        }
+        cat[UNITS] += quantity;
+        cat[CENTS] += subtotalCents;
+
+        currentDay[UNITS] += quantity;
+        currentDay[CENTS] += subtotalCents;
+        total[UNITS] += quantity;
+        total[CENTS] += subtotalCents;
+    }
+
+    long getRows() {
+        return rows;
+    }
+
+    RollupAccumulator merge(RollupAccumulator other) {
+        mergeInto(days, other.days);
+        mergeInto(products, other.products);
+        mergeInto(categories, other.categories);
+        other.productNames.forEach(productNames::putIfAbsent);
+        add(total, other.total);
+        add(statusCounts, other.statusCounts);
+        rows += other.rows;
+        return this;
+    }
+
+    List<SalesRollup> toRollups() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SalesRollup> rollups = new ArrayList<>(days.size() + products.size() + categories.size() + 8);
+
+        rollups.add(rollup(RollupDimension.TOTAL, SalesAnalyticsService.TOTAL_BUCKET, null, total, now));
+        days.forEach((day, c) -> rollups.add(rollup(RollupDimension.DAY, day, null, c, now)));
+        products.forEach((id, c) -> rollups.add(
+                rollup(RollupDimension.PRODUCT, String.valueOf(id), productNames.get(id), c, now)));
+        categories.forEach((category, c) -> rollups.add(rollup(RollupDimension.CATEGORY, category, null, c, now)));
+
+        for (OrderStatus status : OrderStatus.values()) {
+            long count = statusCounts[status.ordinal()];
+            if (count > 0) {
+                rollups.add(rollup(RollupDimension.STATUS, status.name(), null, new long[]{count, 0, 0}, now));
+            }
+        }
+        return rollups;
+    }
+
+    private static SalesRollup rollup(RollupDimension dimension, String bucket, String label,
+                                      long[] counters, LocalDateTime now) {
+        return SalesRollup.builder()
+                .dimension(dimension)
+                .bucket(bucket)
+                .label(label)
+                .orderCount(counters[ORDERS])
+                .units(counters[UNITS])
+                .revenue(BigDecimal.valueOf(counters[CENTS], 2))
+                .updatedAt(now)
+                .build();
+    }
+
+    private static <K> void mergeInto(Map<K, long[]> target, Map<K, long[]> source) {
+        source.forEach((key, counters) -> target.merge(key, counters, (a, b) -> {
+            add(a, b);
+            return a;
+        }));
+    }
+
+    private static void add(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.project.order_management_system.service;
+
+import com.project.order_management_system.dto.SalesRollupResponse;
+import com.project.order_management_system.dto.SalesSummaryResponse;
+import com.project.order_management_system.entity.*;
+import com.project.order_management_system.repository.SalesRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SalesAnalyticsService {
+
+    static final String TOTAL_BUCKET = "all";
+
+    private final SalesRollupRepository rollupRepository;
+
+    // Write side: called from OrderService inside the order transaction
+
+    @Transactional
+    public void recordOrderCreated(Order order) {
+        applyOrder(order, 1);
+        incrementStatus(order.getStatus(), 1);
+    }
+
+    @Transactional
+    public void recordStatusChange(OrderStatus from, OrderStatus to) {
+        if (from == to) {
+            return;
+        }
+        incrementStatus(from, -1);
+        incrementStatus(to, 1);
+    }
+
+    /**
+     * Bulk variant of {@link #recordStatusChange}: one increment per source status.
+     */
+    @Transactional
+    public void recordStatusChanges(Map<OrderStatus, Integer> countsByFrom, OrderStatus to) {
+        int moved = 0;
+        for (Map.Entry<OrderStatus, Integer> entry : countsByFrom.entrySet()) {
+            if (entry.getKey() != to) {
+                incrementStatus(entry.getKey(), -entry.getValue());
+                moved += entry.getValue();
+            }
+        }
+        if (moved > 0) {
+            incrementStatus(to, moved);
+        }
+    }
+
+    /**
+     * Cancelled orders no longer count towards units and revenue.
+     */
+    @Transactional
+    public void recordCancellation(Order order, OrderStatus from) {
+        applyOrder(order, -1);
+        recordStatusChange(from, OrderStatus.CANCELLED);
+    }
+
+    private void applyOrder(Order order, int sign) {
+        String day = order.getCreatedAt().toLocalDate().toString();
+
+        // Summed in cents; converted once per rollup row
+        long units = 0;
+        long revenueCents = 0;
+        Map<String, long[]> byCategory = new HashMap<>();
+
+        for (OrderItem item : order.getItems()) {
+            Product product = item.getProduct();
+            long subtotalCents = item.getSubtotal() != null ? item.getSubtotal().cents() : 0;
+
+            rollupRepository.increment(RollupDimension.PRODUCT.name(), String.valueOf(product.getId()),
+                    product.getName(), sign, (long) sign * item.getQuantity(), signed(subtotalCents, sign));
+
+            long[] category = byCategory.computeIfAbsent(product.getCategory(), c -> new long[2]);
+            category[0] += item.getQuantity();
+            category[1] += subtotalCents;
+
+            units += item.getQuantity();
+            revenueCents += subtotalCents;
+        }
+
+        // One row update per category, not per line
+        for (Map.Entry<String, long[]> entry : byCategory.entrySet()) {
+            rollupRepository.increment(RollupDimension.CATEGORY.name(), entry.getKey(), null,
+                    sign, sign * entry.getValue()[0], signed(entry.getValue()[1], sign));
+        }
+
+        BigDecimal revenue = signed(revenueCents, sign);
+        rollupRepository.increment(RollupDimension.DAY.name(), day, null, sign, sign * units, revenue);
+        rollupRepository.increment(RollupDimension.TOTAL.name(), TOTAL_BUCKET, null, sign, sign * units, revenue);
+    }
+
+    private void incrementStatus(OrderStatus status, int delta) {
+        rollupRepository.increment(RollupDimension.STATUS.name(), status.name(), null, delta, 0, BigDecimal.ZERO);
+    }
+
+    private BigDecimal signed(long cents, int sign) {
+        return BigDecimal.valueOf(sign * cents, Money.SCALE);
+    }
+
+    // Read side: dashboard queries, each a key lookup or short index range
+
+    @Transactional(readOnly = true)
+    public SalesSummaryResponse getSummary() {
+        SalesRollup total = rollupRepository
+                .findById(new SalesRollup.RollupId(RollupDimension.TOTAL, TOTAL_BUCKET))
+                .orElse(null);
+
+        Map<OrderStatus, Long> statusCounts = new EnumMap<>(OrderStatus.class);
+        for (SalesRollup rollup : rollupRepository.findByDimension(RollupDimension.STATUS)) {
+            statusCounts.put(OrderStatus.valueOf(rollup.getBucket()), rollup.getOrderCount());
+        }
+
+        return SalesSummaryResponse.builder()
+                .orderCount(total != null ? total.getOrderCount() : 0L)
+                .units(total != null ? total.getUnits() : 0L)
+                .revenue(total != null ? total.getRevenue() : BigDecimal.ZERO)
+                .ordersByStatus(statusCounts)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesRollupResponse> getDailySales(LocalDate from, LocalDate to) {
+        return rollupRepository.findByDimensionAndBucketBetweenOrderByBucket(
+                RollupDimension.DAY, from.toString(), to.toString()).stream()
+                .map(SalesAnalyticsService::toResponse)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesRollupResponse> getTopProducts(int limit) {
+        return rollupRepository.findByDimensionOrderByRevenueDesc(RollupDimension.PRODUCT, PageRequest.of(0, limit))
+                .stream()
+                .map(SalesAnalyticsService::toResponse)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<SalesRollupResponse> getCategorySales() {
+        return rollupRepository.findByDimension(RollupDimension.CATEGORY).stream()
+                .map(SalesAnalyticsService::toResponse)
+                .toList();
+    }
+
+    private static SalesRollupResponse toResponse(SalesRollup rollup) {
+        return SalesRollupResponse.builder()
+                .dimension(rollup.getDimension())
+                .bucket(rollup.getBucket())
+                .label(rollup.getLabel())
+                .orderCount(rollup.getOrderCount())
+                .units(rollup.getUnits())
+                .revenue(rollup.getRevenue())
+                .updatedAt(rollup.getUpdatedAt())
+                .build();
+    }
+}
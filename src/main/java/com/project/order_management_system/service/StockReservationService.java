@@ -0,0 +1,175 @@
+package com.project.order_management_system.service;
+
+import com.project.order_management_system.entity.*;
+import com.project.order_management_system.repository.OrderRepository;
+import com.project.order_management_system.repository.ProductRepository;
+import com.project.order_management_system.repository.StockReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationService {
+
+    private final StockReservationRepository reservationRepository;
+    private final ProductRepository productRepository;
+    private final OrderRepository orderRepository;
+    private final SalesAnalyticsService analyticsService;
+    private final OrderOutboxService outboxService;
+    private final OrderHistoryCache orderHistoryCache;
+    private final ProductService productService;
+
+    @Value("${reservation.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    /**
+     * Record a hold for every line of a freshly created PENDING order.
+     * Stock has already been deducted by the caller; the reservation tracks
+     * when it must be handed back if the order is never confirmed.
+     */
+    @Transactional
+    public void hold(Order order) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(ttlMinutes);
+
+        List<StockReservation> reservations = new ArrayList<>(order.getItems().size());
+        for (OrderItem item : order.getItems()) {
+            reservations.add(StockReservation.builder()
+                    .order(order)
+                    .product(item.getProduct())
+                    .quantity(item.getQuantity())
+                    .expiresAt(expiresAt)
+                    .build());
+        }
+        reservationRepository.saveAll(reservations);
+
+        log.debug("Held stock for order {} until {}", order.getOrderNumber(), expiresAt);
+    }
+
+    /**
+     * Make the held stock permanent once the order leaves PENDING.
+     */
+    @Transactional
+    public void convert(Long orderId) {
+        int converted = reservationRepository.updateStatusForOrder(
+                orderId, ReservationStatus.HELD, ReservationStatus.CONVERTED);
+
+        if (converted == 0 && reservationRepository.countByOrderIdAndStatus(orderId, ReservationStatus.RELEASED) > 0) {
+            throw new IllegalStateException("Stock reservation for order " + orderId + " has expired");
+        }
+        log.debug("Converted {} reservations for order {}", converted, orderId);
+    }
+
+    /**
+     * Lock the HELD reservations of the orders ahead of the orders themselves.
+     * Cancellation and the expiry sweep take reservations first and orders
+     * second; bulk status changes must do the same or they can deadlock.
+     */
+    @Transactional
+    public void lockHeld(Collection<Long> orderIds) {
+        reservationRepository.findByOrderIdsForUpdate(orderIds, List.of(ReservationStatus.HELD));
+    }
+
+    /**
+     * Bulk variant of {@link #convert(Long)}: one UPDATE for all orders. Orders
+     * whose reservations were already released are left as they are.
+     */
+    @Transactional
+    public int convertAll(Collection<Long> orderIds) {
+        int converted = reservationRepository.updateStatusForOrders(
+                orderIds, ReservationStatus.HELD, ReservationStatus.CONVERTED);
+        log.debug("Converted {} reservations for {} orders", converted, orderIds.size());
+        return converted;
+    }
+
+    /**
+     * Release the reservations of a cancelled order that are still HELD or
+     * CONVERTED. Their rows are locked first, so a concurrent expiry sweep and
+     * this call never both release the same reservation.
+     *
+     * @return quantity per product of the reservations released by this call,
+     *         which the caller hands back to stock
+     */
+    @Transactional
+    public Map<Long, Integer> release(Long orderId) {
+        List<StockReservation> claimed = reservationRepository.findByOrderIdForUpdate(
+                orderId, List.of(ReservationStatus.HELD, ReservationStatus.CONVERTED));
+
+        Map<Long, Integer> quantityByProduct = new HashMap<>();
+        List<Long> reservationIds = new ArrayList<>(claimed.size());
+        for (StockReservation reservation : claimed) {
+            quantityByProduct.merge(reservation.getProduct().getId(), reservation.getQuantity(), Integer::sum);
+            reservationIds.add(reservation.getId());
+        }
+        if (!reservationIds.isEmpty()) {
+            reservationRepository.updateStatusForIds(reservationIds, ReservationStatus.RELEASED);
+        }
+        return quantityByProduct;
+    }
+
+    /**
+     * Orders placed before stock reservations were introduced have none.
+     */
+    @Transactional(readOnly = true)
+    public boolean hasReservations(Long orderId) {
+        return reservationRepository.existsByOrderId(orderId);
+    }
+
+    /**
+     * Release one batch of expired reservations: stock is restored with a single
+     * increment per distinct product and the owning PENDING orders are cancelled.
+     *
+     * @return number of reservations released
+     */
+    @Transactional
+    public int releaseExpiredBatch(int batchSize) {
+        List<StockReservation> expired = reservationRepository.findExpired(
+                ReservationStatus.HELD, LocalDateTime.now(), PageRequest.of(0, batchSize));
+
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Integer> quantityByProduct = new HashMap<>();
+        Set<Long> orderIds = new HashSet<>();
+        List<Long> reservationIds = new ArrayList<>(expired.size());
+        for (StockReservation reservation : expired) {
+            quantityByProduct.merge(reservation.getProduct().getId(), reservation.getQuantity(), Integer::sum);
+            orderIds.add(reservation.getOrder().getId());
+            reservationIds.add(reservation.getId());
+        }
+
+        quantityByProduct.forEach(productRepository::incrementStock);
+        reservationRepository.updateStatusForIds(reservationIds, ReservationStatus.RELEASED);
+
+        // Only orders still PENDING are cancelled; FAILED ones just get their stock back
+        List<Order> pendingOrders = new ArrayList<>();
+        List<Long> pendingOrderIds = new ArrayList<>();
+        // Cancellation analytics walk the items: load them with the orders
+        for (Order order : orderRepository.findWithItemsByIdIn(orderIds)) {
+            if (order.getStatus() == OrderStatus.PENDING) {
+                analyticsService.recordCancellation(order, OrderStatus.PENDING);
+                outboxService.record(order, OrderStatus.PENDING, OrderStatus.CANCELLED);
+                pendingOrders.add(order);
+                pendingOrderIds.add(order.getId());
+            }
+        }
+        int cancelled = pendingOrderIds.isEmpty() ? 0 : orderRepository.updateStatusForIds(
+                pendingOrderIds, OrderStatus.PENDING, OrderStatus.CANCELLED, LocalDateTime.now());
+
+        // Only the cancelled orders' entries change; their owners' history indexes stay valid
+        orderHistoryCache.evictOrders(pendingOrders);
+        productService.evictStock(productRepository.findAllById(quantityByProduct.keySet()));
+
+        log.info("Released {} expired reservations across {} products, cancelled {} orders",
+                expired.size(), quantityByProduct.size(), cancelled);
+        return expired.size();
+    }
+}
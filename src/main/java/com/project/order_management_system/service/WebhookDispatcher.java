@@ -0,0 +1,253 @@
+package com.project.order_management_system.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.order_management_system.dto.OrderStatusEvent;
+import com.project.order_management_system.dto.WebhookSubscriptionRequest;
+import com.project.order_management_system.dto.WebhookSubscriptionResponse;
+import com.project.order_management_system.entity.WebhookSubscription;
+import com.project.order_management_system.exception.ResourceNotFoundException;
+import com.project.order_management_system.repository.WebhookSubscriptionRepository;
+import com.project.order_management_system.security.WebhookSigner;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans order events out to webhook subscribers. Events are read from the
+ * order event stream through the "webhooks" consumer group, so each event is
+ * handled by one node and OrderService transactions never wait on partners.
+ * <p>
+ * A stream entry is acknowledged once every subscriber's delivery finished
+ * (delivered or given up). Entries left pending, because a node died or a
+ * subscriber queue was full, are claimed again after {@code reclaim-idle-ms}
+ * and re-sent: delivery is at least once and partners de-duplicate on eventId.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WebhookDispatcher {
+
+    private final WebhookSubscriptionRepository subscriptionRepository;
+    private final StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final WebhookSigner signer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${outbox.stream.key:oms:order-events}")
+    private String streamKey;
+
+    @Value("${webhook.consumer-group:webhooks}")
+    private String group;
+
+    @Value("${webhook.consumer-name:${HOSTNAME:local}}")
+    private String consumerName;
+
+    @Value("${webhook.batch-size:50}")
+    private int batchSize;
+
+    @Value("${webhook.max-in-flight-per-subscriber:2}")
+    private int maxInFlight;
+
+    @Value("${webhook.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${webhook.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${webhook.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${webhook.max-backoff-ms:120000}")
+    private long maxBackoffMs;
+
+    @Value("${webhook.request-timeout-ms:10000}")
+    private long requestTimeoutMs;
+
+    @Value("${webhook.reclaim-idle-ms:900000}")
+    private long reclaimIdleMs;
+
+    private WebhookSender sender;
+    private volatile List<WebhookSubscription> subscriptions = List.of();
+
+    @PostConstruct
+    void init() {
+        sender = new WebhookSender(new WebhookSender.Settings(batchSize, maxInFlight, queueCapacity, maxAttempts,
+                Duration.ofMillis(initialBackoffMs), Duration.ofMillis(maxBackoffMs),
+                Duration.ofMillis(requestTimeoutMs)), objectMapper, signer, meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdown();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refreshSubscriptions();
+        try {
+            redisTemplate.opsForStream().createGroup(streamKey, ReadOffset.latest(), group);
+        } catch (Exception e) {
+            // BUSYGROUP: created earlier or by another node
+            log.debug("Consumer group '{}' not created: {}", group, e.getMessage());
+        }
+
+        container.register(StreamReadRequest.builder(StreamOffset.create(streamKey, ReadOffset.lastConsumed()))
+                .consumer(Consumer.from(group, consumerName))
+                .autoAcknowledge(false)
+                .cancelOnError(e -> false)
+                .errorHandler(e -> log.warn("Reading order events for webhooks failed: {}", e.getMessage()))
+                .build(), record -> dispatch(record.getId(), record.getValue()));
+        container.start();
+    }
+
+    @Transactional
+    public WebhookSubscriptionResponse create(WebhookSubscriptionRequest request) {
+        WebhookSubscription subscription = subscriptionRepository.save(WebhookSubscription.builder()
+                .name(request.getName())
+                .url(request.getUrl())
+                .build());
+        refreshSubscriptions();
+
+        WebhookSubscriptionResponse response = toResponse(subscription);
+        response.setSecret(signer.secretFor(subscription.getId()));
+        return response;
+    }
+
+    @Transactional(readOnly = true)
+    public List<WebhookSubscriptionResponse> findAll() {
+        return subscriptionRepository.findAll().stream()
+                .map(WebhookDispatcher::toResponse)
+                .toList();
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        if (!subscriptionRepository.existsById(id)) {
+            throw new ResourceNotFoundException("WebhookSubscription", "id", id);
+        }
+        subscriptionRepository.deleteById(id);
+        refreshSubscriptions();
+    }
+
+    /**
+     * Picks up subscriptions changed on other nodes.
+     */
+    @Scheduled(fixedDelayString = "${webhook.refresh-interval-ms:30000}")
+    public void refreshSubscriptions() {
+        List<WebhookSubscription> active = subscriptionRepository.findByActiveTrue();
+        subscriptions = active;
+        sender.retain(active.stream().map(WebhookSubscription::getId).toList());
+    }
+
+    /**
+     * Re-dispatch entries that stayed unacknowledged for too long, whichever
+     * consumer they were delivered to.
+     */
+    @Scheduled(fixedDelayString = "${webhook.reclaim-interval-ms:60000}")
+    public void reclaimPending() {
+        Duration minIdle = Duration.ofMillis(reclaimIdleMs);
+        PendingMessages pending;
+        try {
+            pending = redisTemplate.opsForStream().pending(streamKey, group, Range.unbounded(), 500);
+        } catch (Exception e) {
+            log.debug("Could not read pending webhook events: {}", e.getMessage());
+            return;
+        }
+
+        RecordId[] stale = pending.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (stale.length == 0) {
+            return;
+        }
+
+        // XCLAIM with min-idle: when several nodes race, only one gets each entry
+        List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream()
+                .claim(streamKey, group, consumerName, XClaimOptions.minIdle(minIdle).ids(stale));
+        log.info("Re-dispatching {} pending webhook events", claimed.size());
+        for (MapRecord<String, Object, Object> record : claimed) {
+            dispatch(record.getId(), record.getValue());
+        }
+    }
+
+    private void dispatch(RecordId recordId, Map<?, ?> fields) {
+        OrderStatusEvent event;
+        try {
+            event = OrderOutboxService.toEvent(fields);
+        } catch (RuntimeException e) {
+            log.warn("Skipping malformed order event {}: {}", recordId, e.getMessage());
+            acknowledge(recordId);
+            return;
+        }
+
+        List<WebhookSubscription> targets = subscriptions;
+        if (targets.isEmpty()) {
+            acknowledge(recordId);
+            return;
+        }
+
+        AtomicInteger remaining = new AtomicInteger(targets.size());
+        AtomicBoolean overflow = new AtomicBoolean();
+        Runnable done = () -> {
+            if (remaining.decrementAndGet() == 0 && !overflow.get()) {
+                acknowledge(recordId);
+            }
+        };
+        for (WebhookSubscription subscription : targets) {
+            if (!sender.enqueue(subscription, new WebhookSender.Delivery(event, done))) {
+                // Left pending and re-dispatched by reclaimPending once the queue drained
+                overflow.set(true);
+                log.warn("Webhook queue of subscription {} is full, event {} deferred",
+                        subscription.getId(), event.getEventId());
+                done.run();
+            }
+        }
+    }
+
+    private void acknowledge(RecordId recordId) {
+        try {
+            redisTemplate.opsForStream().acknowledge(streamKey, group, recordId);
+        } catch (Exception e) {
+            // Stays pending and is re-sent later, which at-least-once delivery allows
+            log.debug("Could not acknowledge {}: {}", recordId, e.getMessage());
+        }
+    }
+
+    private static WebhookSubscriptionResponse toResponse(WebhookSubscription subscription) {
+        return WebhookSubscriptionResponse.builder()
+                .id(subscription.getId())
+                .name(subscription.getName())
+                .url(subscription.getUrl())
+                .active(subscription.isActive())
+                .createdAt(subscription.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,221 @@
+package com.project.order_management_system.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.order_management_system.dto.OrderStatusEvent;
+import com.project.order_management_system.entity.WebhookSubscription;
+import com.project.order_management_system.security.WebhookSigner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-subscriber webhook delivery: every subscription has its own bounded
+ * queue and at most {@code maxInFlight} batches on the wire, so a slow or
+ * failing partner only ever delays itself. Queued events are POSTed as a JSON
+ * array of up to {@code batchSize} events with a signature header; failed
+ * batches are retried with exponential backoff and jitter, holding their slot
+ * so a failing partner isn't flooded.
+ * <p>
+ * Each {@link Delivery} completes exactly once, when its batch was delivered
+ * or given up on. Free of Spring and Redis so it can be driven directly
+ * against a stub server.
+ */
+@Slf4j
+public class WebhookSender {
+
+    public record Settings(int batchSize, int maxInFlight, int queueCapacity, int maxAttempts,
+                           Duration initialBackoff, Duration maxBackoff, Duration requestTimeout) {
+    }
+
+    public record Delivery(OrderStatusEvent event, Runnable onDone) {
+    }
+
+    private final Settings settings;
+    private final ObjectMapper objectMapper;
+    private final WebhookSigner signer;
+    private final MeterRegistry registry;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "webhook-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    public WebhookSender(Settings settings, ObjectMapper objectMapper, WebhookSigner signer, MeterRegistry registry) {
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.signer = signer;
+        this.registry = registry;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(settings.requestTimeout())
+                .build();
+        Gauge.builder("webhook.queue.size", channels, all -> all.values().stream()
+                        .mapToInt(channel -> channel.queue.size())
+                        .sum())
+                .description("Events waiting for delivery across all subscriptions")
+                .register(registry);
+    }
+
+    /**
+     * Queue an event for a subscription; false when its queue is full.
+     */
+    public boolean enqueue(WebhookSubscription subscription, Delivery delivery) {
+        Channel channel = channels.computeIfAbsent(subscription.getId(), id -> new Channel(subscription));
+        channel.url = URI.create(subscription.getUrl());
+        if (!channel.queue.offer(delivery)) {
+            return false;
+        }
+        drain(channel);
+        return true;
+    }
+
+    /**
+     * Drop channels of subscriptions that were deleted or deactivated; their
+     * queued events are completed without delivery.
+     */
+    public void retain(Collection<Long> subscriptionIds) {
+        channels.keySet().removeIf(id -> {
+            if (subscriptionIds.contains(id)) {
+                return false;
+            }
+            List<Delivery> abandoned = new ArrayList<>();
+            channels.get(id).queue.drainTo(abandoned);
+            abandoned.forEach(delivery -> delivery.onDone().run());
+            return true;
+        });
+    }
+
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+    }
+
+    private void drain(Channel channel) {
+        while (channel.inFlight.tryAcquire()) {
+            List<Delivery> batch = new ArrayList<>(settings.batchSize());
+            channel.queue.drainTo(batch, settings.batchSize());
+            if (batch.isEmpty()) {
+                channel.inFlight.release();
+                // An event queued between drainTo and release must not be stranded
+                if (channel.queue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            send(channel, batch, 1);
+        }
+    }
+
+    private void send(Channel channel, List<Delivery> batch, int attempt) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(batch.stream().map(Delivery::event).toList());
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize webhook batch for subscription {}", channel.subscriptionId, e);
+            finish(channel, batch, "failed");
+            return;
+        }
+
+        String timestamp = String.valueOf(Instant.now().getEpochSecond());
+        HttpRequest request = HttpRequest.newBuilder(channel.url)
+                .timeout(settings.requestTimeout())
+                .header("Content-Type", "application/json")
+                .header("X-Webhook-Subscription", String.valueOf(channel.subscriptionId))
+                .header("X-Webhook-Timestamp", timestamp)
+                .header("X-Webhook-Signature", "sha256=" + signer.sign(channel.subscriptionId, timestamp, body))
+                .header("X-Webhook-Attempt", String.valueOf(attempt))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+
+        long start = System.nanoTime();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            int status = response != null ? response.statusCode() : 0;
+            boolean delivered = error == null && status >= 200 && status < 300;
+            Timer.builder("webhook.request.duration")
+                    .description("Latency of webhook POSTs")
+                    .tag("outcome", delivered ? "success" : error != null ? "error" : String.valueOf(status))
+                    .register(registry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            if (delivered) {
+                finish(channel, batch, "delivered");
+                return;
+            }
+
+            // Other 4xx responses won't change on retry
+            boolean retryable = error != null || status >= 500 || status == 408 || status == 429;
+            if (retryable && attempt < settings.maxAttempts()) {
+                long delay = backoffMillis(attempt, response);
+                log.debug("Webhook delivery to subscription {} failed ({}), retry {} in {} ms",
+                        channel.subscriptionId, error != null ? error.toString() : status, attempt + 1, delay);
+                retryScheduler.schedule(() -> send(channel, batch, attempt + 1), delay, TimeUnit.MILLISECONDS);
+            } else {
+                log.warn("Giving up on {} webhook events for subscription {} after {} attempts ({})",
+                        batch.size(), channel.subscriptionId, attempt, error != null ? error.toString() : status);
+                finish(channel, batch, "failed");
+            }
+        });
+    }
+
+    private void finish(Channel channel, List<Delivery> batch, String result) {
+        Counter.builder("webhook.events")
+                .description("Webhook events by final delivery result")
+                .tag("result", result)
+                .register(registry)
+                .increment(batch.size());
+        batch.forEach(delivery -> delivery.onDone().run());
+        channel.inFlight.release();
+        drain(channel);
+    }
+
+    private long backoffMillis(int attempt, HttpResponse<?> response) {
+        long exponential = settings.initialBackoff().toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(exponential, settings.maxBackoff().toMillis());
+        // Full jitter in the upper half spreads retries of many partners
+        long delay = capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+
+        if (response != null) {
+            long retryAfterSeconds = response.headers().firstValue("Retry-After")
+                    .filter(value -> !value.isEmpty() && value.chars().allMatch(Character::isDigit))
+                    .map(Long::parseLong)
+                    .orElse(0L);
+            delay = Math.max(delay, Math.min(retryAfterSeconds * 1000, settings.maxBackoff().toMillis()));
+        }
+        return delay;
+    }
+
+    private final class Channel {
+
+        private final Long subscriptionId;
+        private final BlockingQueue<Delivery> queue = new LinkedBlockingQueue<>(settings.queueCapacity());
+        private final Semaphore inFlight = new Semaphore(settings.maxInFlight());
+        private volatile URI url;
+
+        private Channel(WebhookSubscription subscription) {
+            this.subscriptionId = subscription.getId();
+            this.url = URI.create(subscription.getUrl());
+        }
+    }
+}
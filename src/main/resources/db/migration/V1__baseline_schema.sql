@@ -0,0 +1,92 @@
+-- Schema as previously created by spring.jpa.hibernate.ddl-auto=update.
+-- Databases that already have it are baselined at version 1 and skip this script.
+
+CREATE TABLE users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    email       VARCHAR(255) NOT NULL UNIQUE,
+    password    VARCHAR(255) NOT NULL,
+    phone       VARCHAR(255) NOT NULL,
+    address     VARCHAR(255),
+    role        VARCHAR(255) NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6)
+);
+
+CREATE TABLE products (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    price       NUMERIC(10, 2) NOT NULL,
+    stock       INTEGER NOT NULL,
+    active      BOOLEAN NOT NULL,
+    image_url   VARCHAR(255),
+    category    VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE orders (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_number     VARCHAR(255) NOT NULL UNIQUE,
+    user_id          BIGINT NOT NULL REFERENCES users (id),
+    total_amount     NUMERIC(10, 2) NOT NULL,
+    status           VARCHAR(255) NOT NULL,
+    shipping_address VARCHAR(500),
+    notes            VARCHAR(1000),
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6)
+);
+
+CREATE TABLE order_items (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id    BIGINT NOT NULL REFERENCES orders (id),
+    product_id  BIGINT NOT NULL REFERENCES products (id),
+    quantity    INTEGER NOT NULL,
+    price       NUMERIC(10, 2) NOT NULL,
+    subtotal    NUMERIC(10, 2) NOT NULL
+);
+
+CREATE TABLE stock_reservations (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    order_id    BIGINT NOT NULL REFERENCES orders (id),
+    product_id  BIGINT NOT NULL REFERENCES products (id),
+    quantity    INTEGER NOT NULL,
+    status      VARCHAR(20) NOT NULL,
+    expires_at  TIMESTAMP(6) NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX idx_reservation_status_expires ON stock_reservations (status, expires_at);
+CREATE INDEX idx_reservation_order ON stock_reservations (order_id);
+
+CREATE TABLE sales_rollups (
+    dimension   VARCHAR(20) NOT NULL,
+    bucket      VARCHAR(100) NOT NULL,
+    label       VARCHAR(255),
+    order_count BIGINT NOT NULL,
+    units       BIGINT NOT NULL,
+    revenue     NUMERIC(14, 2) NOT NULL,
+    updated_at  TIMESTAMP(6),
+    PRIMARY KEY (dimension, bucket)
+);
+CREATE INDEX idx_rollup_dimension_revenue ON sales_rollups (dimension, revenue);
+
+CREATE TABLE order_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type            VARCHAR(20) NOT NULL,
+    order_id        BIGINT NOT NULL,
+    order_number    VARCHAR(255) NOT NULL,
+    user_id         BIGINT NOT NULL,
+    previous_status VARCHAR(20),
+    status          VARCHAR(20) NOT NULL,
+    total_amount    NUMERIC(10, 2),
+    created_at      TIMESTAMP(6) NOT NULL,
+    published_at    TIMESTAMP(6)
+);
+CREATE INDEX idx_outbox_published_id ON order_outbox (published_at, id);
+
+CREATE TABLE webhook_subscriptions (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    url         VARCHAR(1000) NOT NULL,
+    active      BOOLEAN NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL
+);
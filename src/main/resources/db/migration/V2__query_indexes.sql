@@ -0,0 +1,26 @@
+-- Indexes for the repository finders. Built CONCURRENTLY so existing tables stay
+-- writable; Flyway runs these statements outside a transaction. A failed build
+-- leaves an INVALID index behind: drop it before re-running the migration.
+
+-- OrderRepository: findByUserId, findWithItemsByUserId, countOrdersByUserId (prefix)
+-- and findByUserIdAndStatus
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_user_status ON orders (user_id, status);
+
+-- OrderRepository.findByStatus, reservation sweep and bulk status updates
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_status ON orders (status);
+
+-- OrderRepository.findOrdersBetweenDates and keyset paging by (created_at, id)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_created_id ON orders (created_at, id);
+
+-- Items of an order (fetch joins, analytics backfill) and the product foreign key
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_items_order ON order_items (order_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_items_product ON order_items (product_id);
+
+-- ProductRepository: findByCategory and findDistinctCategories
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_category ON products (category);
+
+-- ProductRepository: findByActiveTrue and findAvailableProducts
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_stock ON products (active, stock);
+
+-- ProductRepository: existsByName and findExistingNames
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_name ON products (name);
@@ -0,0 +1,110 @@
+-- Range-partition orders by month of created_at and add the archive tables for
+-- closed orders (OrderArchiveService).
+--
+-- The existing table becomes the partition orders_legacy, covering everything up
+-- to the start of next month; monthly partitions after that are created ahead of
+-- time by OrderArchiveScheduler. Attaching validates the legacy rows and takes an
+-- exclusive lock on orders, so run this in a maintenance window.
+--
+-- PostgreSQL requires the partition key in every unique constraint: the primary
+-- key becomes (id, created_at), with ids still drawn from a single sequence, and
+-- order numbers (timestamp + random suffix) are only unique per created_at.
+-- Foreign keys can't reference orders(id) any more and are dropped; order items
+-- and reservations are only ever written together with their order.
+
+DO $$
+DECLARE
+    fk RECORD;
+    next_id BIGINT;
+    legacy_bound TIMESTAMP := date_trunc('month', now()) + INTERVAL '1 month';
+BEGIN
+    FOR fk IN
+        SELECT conrelid::regclass AS tbl, conname
+        FROM pg_constraint
+        WHERE contype = 'f' AND confrelid = 'orders'::regclass
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.tbl, fk.conname);
+    END LOOP;
+
+    -- Primary key and order number unique constraint are replaced by the parent's
+    FOR fk IN
+        SELECT conname
+        FROM pg_constraint
+        WHERE contype IN ('p', 'u') AND conrelid = 'orders'::regclass
+    LOOP
+        EXECUTE format('ALTER TABLE orders DROP CONSTRAINT %I', fk.conname);
+    END LOOP;
+
+    ALTER TABLE orders RENAME TO orders_legacy;
+    ALTER TABLE orders_legacy ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+    -- Same definitions as the parent's indexes, so ATTACH reuses instead of rebuilding them
+    ALTER INDEX idx_orders_user_status RENAME TO orders_legacy_user_status_idx;
+    ALTER INDEX idx_orders_status RENAME TO orders_legacy_status_idx;
+    ALTER INDEX idx_orders_created_id RENAME TO orders_legacy_created_id_idx;
+
+    SELECT COALESCE(MAX(id), 0) + 1 INTO next_id FROM orders_legacy;
+    EXECUTE format('CREATE SEQUENCE orders_id_seq START WITH %s', next_id);
+
+    CREATE TABLE orders (
+        id               BIGINT NOT NULL DEFAULT nextval('orders_id_seq'),
+        order_number     VARCHAR(255) NOT NULL,
+        user_id          BIGINT NOT NULL REFERENCES users (id),
+        total_amount     NUMERIC(10, 2) NOT NULL,
+        status           VARCHAR(255) NOT NULL,
+        shipping_address VARCHAR(500),
+        notes            VARCHAR(1000),
+        created_at       TIMESTAMP(6) NOT NULL,
+        updated_at       TIMESTAMP(6),
+        CONSTRAINT orders_pkey PRIMARY KEY (id, created_at),
+        CONSTRAINT uk_orders_order_number UNIQUE (order_number, created_at)
+    ) PARTITION BY RANGE (created_at);
+    ALTER SEQUENCE orders_id_seq OWNED BY orders.id;
+
+    CREATE INDEX idx_orders_user_status ON orders (user_id, status);
+    CREATE INDEX idx_orders_status ON orders (status);
+    CREATE INDEX idx_orders_created_id ON orders (created_at, id);
+
+    EXECUTE format('ALTER TABLE orders ATTACH PARTITION orders_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+            legacy_bound);
+END
+$$;
+
+-- Closed orders moved out of the hot partitions. Append-only, so pages are packed full.
+CREATE TABLE orders_archive (
+    id               BIGINT PRIMARY KEY,
+    order_number     VARCHAR(255) NOT NULL,
+    user_id          BIGINT NOT NULL,
+    total_amount     NUMERIC(10, 2) NOT NULL,
+    status           VARCHAR(255) NOT NULL,
+    shipping_address VARCHAR(500),
+    notes            VARCHAR(1000),
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6),
+    archived_at      TIMESTAMP(6) NOT NULL DEFAULT now()
+) WITH (fillfactor = 100);
+CREATE UNIQUE INDEX idx_orders_archive_order_number ON orders_archive (order_number);
+CREATE INDEX idx_orders_archive_user ON orders_archive (user_id);
+
+CREATE TABLE order_items_archive (
+    id          BIGINT PRIMARY KEY,
+    order_id    BIGINT NOT NULL,
+    product_id  BIGINT NOT NULL,
+    quantity    INTEGER NOT NULL,
+    price       NUMERIC(10, 2) NOT NULL,
+    subtotal    NUMERIC(10, 2) NOT NULL
+) WITH (fillfactor = 100);
+CREATE INDEX idx_order_items_archive_order ON order_items_archive (order_id);
+
+-- Every order ever placed, for reports that must see archived orders too
+CREATE VIEW all_orders AS
+    SELECT id, order_number, user_id, total_amount, status, shipping_address, notes, created_at, updated_at
+    FROM orders
+    UNION ALL
+    SELECT id, order_number, user_id, total_amount, status, shipping_address, notes, created_at, updated_at
+    FROM orders_archive;
+
+CREATE VIEW all_order_items AS
+    SELECT id, order_id, product_id, quantity, price, subtotal FROM order_items
+    UNION ALL
+    SELECT id, order_id, product_id, quantity, price, subtotal FROM order_items_archive;
@@ -0,0 +1,5 @@
+-- CREATED events carry what the order lists show for a new order, so live
+-- clients can add the row without fetching the order. Null for other events.
+ALTER TABLE order_outbox ADD COLUMN user_name VARCHAR(255);
+ALTER TABLE order_outbox ADD COLUMN user_email VARCHAR(255);
+ALTER TABLE order_outbox ADD COLUMN item_count INTEGER;
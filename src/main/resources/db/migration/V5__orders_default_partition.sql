@@ -0,0 +1,5 @@
+-- Catch-all partition: orders created past the last monthly partition land here
+-- instead of failing, e.g. on a fresh deploy before OrderArchiveScheduler ran or
+-- while partition creation keeps failing. OrderArchiveService moves such rows
+-- into the monthly partition when it creates it.
+CREATE TABLE IF NOT EXISTS orders_default PARTITION OF orders DEFAULT;
@@ -0,0 +1,55 @@
+package com.project.order_management_system.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void ofRoundsHalfUpToCents() {
+        assertThat(Money.of(new BigDecimal("1.005")).cents()).isEqualTo(101);
+        assertThat(Money.of(new BigDecimal("1.004")).cents()).isEqualTo(100);
+        assertThat(Money.of(new BigDecimal("-1.005")).cents()).isEqualTo(-101);
+        assertThat(Money.of(new BigDecimal("9.99")).cents()).isEqualTo(999);
+        assertThat(Money.of(new BigDecimal("12")).cents()).isEqualTo(1200);
+    }
+
+    @Test
+    void ofRejectsAmountsBeyondALongOfCents() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("100000000000000000000")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void plusAndTimesComputeInCents() {
+        Money price = Money.of(new BigDecimal("19.99"));
+
+        assertThat(price.times(3)).isEqualTo(new Money(5997));
+        assertThat(price.plus(Money.of(new BigDecimal("0.01")))).isEqualTo(new Money(2000));
+    }
+
+    @Test
+    void plusFailsOnOverflow() {
+        Money max = new Money(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> max.plus(new Money(1))).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void timesFailsOnOverflow() {
+        Money large = new Money(Long.MAX_VALUE / 2 + 1);
+
+        assertThatThrownBy(() -> large.times(2)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void toBigDecimalKeepsTheColumnScale() {
+        assertThat(new Money(1200).toBigDecimal()).isEqualByComparingTo("12.00");
+        assertThat(new Money(1200).toBigDecimal().scale()).isEqualTo(Money.SCALE);
+        assertThat(new Money(5).toString()).isEqualTo("0.05");
+    }
+}
@@ -0,0 +1,107 @@
+package com.project.order_management_system.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void initialLimitIsClampedToTheBounds() {
+        assertThat(new AdaptiveConcurrencyLimit(500, 10, 200, 1.5).getLimit()).isEqualTo(200);
+        assertThat(new AdaptiveConcurrencyLimit(1, 10, 200, 1.5).getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void shedsRequestsAboveTheLimitUntilOneFinishes() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 1.5);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(2);
+
+        limit.release(-1);
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void growsWhileLatencyIsSteadyAndTheLimitIsUsed() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 5, 100, 1.5);
+        hold(limit, 15);
+
+        finish(limit, 50, FAST);
+
+        assertThat(limit.getLimit()).isGreaterThan(20).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    void doesNotGrowALimitTheTrafficIsNotUsing() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 5, 100, 1.5);
+
+        finish(limit, 50, FAST);
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void neverGrowsPastTheMaximum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(90, 5, 100, 1.5);
+        hold(limit, 60);
+
+        finish(limit, 50, FAST);
+
+        assertThat(limit.getLimit()).isEqualTo(100);
+    }
+
+    @Test
+    void shrinksWhenLatencyRisesAboveTheBaseline() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 5, 100, 1.5);
+        finish(limit, 10, FAST);
+
+        finish(limit, 40, SLOW);
+
+        assertThat(limit.getLimit()).isLessThan(20).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void neverShrinksBelowTheMinimum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 15, 100, 1.5);
+        finish(limit, 10, FAST);
+
+        finish(limit, 40, SLOW);
+
+        assertThat(limit.getLimit()).isEqualTo(15);
+    }
+
+    @Test
+    void requestsWithoutStatementsLeaveTheLimitAlone() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 5, 100, 1.5);
+        finish(limit, 10, FAST);
+
+        finish(limit, 40, -1);
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    private static void hold(AdaptiveConcurrencyLimit limit, int requests) {
+        for (int i = 0; i < requests; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+    }
+
+    /**
+     * Runs {@code requests} requests one after another, each reporting {@code statementNanos}.
+     */
+    private static void finish(AdaptiveConcurrencyLimit limit, int requests, long statementNanos) {
+        for (int i = 0; i < requests; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+            limit.release(statementNanos);
+        }
+    }
+}
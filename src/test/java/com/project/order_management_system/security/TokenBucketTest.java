@@ -0,0 +1,83 @@
+package com.project.order_management_system.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Capacity 3 at 10 per second: one token every 100 ms. Time is passed in
+ * explicitly, so nothing here depends on the clock.
+ */
+class TokenBucketTest {
+
+    private static final long START = 1_000_000_000L;
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final TokenBucket bucket = new TokenBucket(3, 10, START);
+
+    @Test
+    void admitsABurstOfCapacityThenReportsTheWait() {
+        assertThat(bucket.tryAcquire(START)).isZero();
+        assertThat(bucket.tryAcquire(START)).isZero();
+        assertThat(bucket.tryAcquire(START)).isZero();
+
+        assertThat(bucket.tryAcquire(START)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        drain(START);
+
+        assertThat(bucket.tryAcquire(START + INTERVAL / 2)).isEqualTo(INTERVAL / 2);
+        assertThat(bucket.tryAcquire(START + INTERVAL)).isZero();
+        assertThat(bucket.tryAcquire(START + INTERVAL)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void retryingAfterTheReportedWaitSucceeds() {
+        drain(START);
+        long now = START + INTERVAL / 4;
+
+        long wait = bucket.tryAcquire(now);
+
+        assertThat(wait).isPositive();
+        assertThat(bucket.tryAcquire(now + wait - 1)).isPositive();
+        assertThat(bucket.tryAcquire(now + wait)).isZero();
+    }
+
+    @Test
+    void rejectedAttemptsDontPushTheRefillBack() {
+        drain(START);
+        for (int i = 0; i < 100; i++) {
+            bucket.tryAcquire(START + i);
+        }
+
+        assertThat(bucket.tryAcquire(START + INTERVAL)).isZero();
+    }
+
+    @Test
+    void neverHoldsMoreThanCapacityAfterIdling() {
+        long later = START + TimeUnit.SECONDS.toNanos(60);
+
+        drain(later);
+
+        assertThat(bucket.tryAcquire(later)).isEqualTo(INTERVAL);
+    }
+
+    @Test
+    void isFullOnceEveryTokenIsBack() {
+        assertThat(bucket.isFull(START)).isTrue();
+
+        bucket.tryAcquire(START);
+        assertThat(bucket.isFull(START + INTERVAL - 1)).isFalse();
+        assertThat(bucket.isFull(START + INTERVAL)).isTrue();
+    }
+
+    private void drain(long now) {
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryAcquire(now)).isZero();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.order_management_system.service;
+
+import com.project.order_management_system.dto.BulkStatusUpdateResponse.Outcome;
+import com.project.order_management_system.entity.Order;
+import com.project.order_management_system.entity.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStatusTransitionsTest {
+
+    @Test
+    void allowsTheLifecycleTransitions() {
+        assertThat(OrderStatusTransitions.isAllowed(OrderStatus.PENDING, OrderStatus.CONFIRMED)).isTrue();
+        assertThat(OrderStatusTransitions.isAllowed(OrderStatus.PENDING, OrderStatus.PROCESSING)).isTrue();
+        assertThat(OrderStatusTransitions.isAllowed(OrderStatus.CONFIRMED, OrderStatus.SHIPPED)).isTrue();
+        assertThat(OrderStatusTransitions.isAllowed(OrderStatus.PROCESSING, OrderStatus.SHIPPED)).isTrue();
+        assertThat(OrderStatusTransitions.isAllowed(OrderStatus.SHIPPED, OrderStatus.DELIVERED)).isTrue();
+        assertThat(OrderStatusTransitions.isAllowed(OrderStatus.FAILED, OrderStatus.CANCELLED)).isTrue();
+    }
+
+    @Test
+    void rejectsSkippingBackwardsAndCancellingShippedOrders() {
+        assertThat(OrderStatusTransitions.isAllowed(OrderStatus.PENDING, OrderStatus.SHIPPED)).isFalse();
+        assertThat(OrderStatusTransitions.isAllowed(OrderStatus.SHIPPED, OrderStatus.PENDING)).isFalse();
+        assertThat(OrderStatusTransitions.isAllowed(OrderStatus.SHIPPED, OrderStatus.CANCELLED)).isFalse();
+        assertThat(OrderStatusTransitions.isAllowed(OrderStatus.FAILED, OrderStatus.CONFIRMED)).isFalse();
+    }
+
+    @ParameterizedTest
+    @EnumSource(OrderStatus.class)
+    void stayingInTheSameStatusIsNotATransition(OrderStatus status) {
+        assertThat(OrderStatusTransitions.isAllowed(status, status)).isFalse();
+    }
+
+    @Test
+    void sourcesOfIsTheInverseOfIsAllowed() {
+        for (OrderStatus to : OrderStatus.values()) {
+            EnumSet<OrderStatus> expected = EnumSet.noneOf(OrderStatus.class);
+            for (OrderStatus from : OrderStatus.values()) {
+                if (OrderStatusTransitions.isAllowed(from, to)) {
+                    expected.add(from);
+                }
+            }
+            assertThat(OrderStatusTransitions.sourcesOf(to)).as("sources of %s", to).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void pendingIsNoTransitionTarget() {
+        assertThat(OrderStatusTransitions.sourcesOf(OrderStatus.PENDING)).isEmpty();
+    }
+
+    @Test
+    void deliveredAndCancelledAreTerminal() {
+        assertThat(OrderStatusTransitions.terminal())
+                .containsExactlyInAnyOrder(OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void bulkOutcomeOfAMissingOrderIsNotFound() {
+        assertThat(OrderService.bulkOutcome(null, OrderStatus.SHIPPED)).isEqualTo(Outcome.NOT_FOUND);
+    }
+
+    @Test
+    void bulkOutcomeOfAnOrderAlreadyInTheStatusIsUnchanged() {
+        assertThat(OrderService.bulkOutcome(order(OrderStatus.SHIPPED), OrderStatus.SHIPPED))
+                .isEqualTo(Outcome.UNCHANGED);
+    }
+
+    @Test
+    void bulkOutcomeOfADisallowedTransitionIsInvalid() {
+        assertThat(OrderService.bulkOutcome(order(OrderStatus.DELIVERED), OrderStatus.SHIPPED))
+                .isEqualTo(Outcome.INVALID_TRANSITION);
+        assertThat(OrderService.bulkOutcome(order(OrderStatus.PENDING), OrderStatus.DELIVERED))
+                .isEqualTo(Outcome.INVALID_TRANSITION);
+    }
+
+    @Test
+    void bulkOutcomeOfAnAllowedTransitionIsUpdated() {
+        assertThat(OrderService.bulkOutcome(order(OrderStatus.PENDING), OrderStatus.CONFIRMED))
+                .isEqualTo(Outcome.UPDATED);
+        assertThat(OrderService.bulkOutcome(order(OrderStatus.SHIPPED), OrderStatus.DELIVERED))
+                .isEqualTo(Outcome.UPDATED);
+    }
+
+    private static Order order(OrderStatus status) {
+        return Order.builder().id(1L).status(status).build();
+    }
+}